@@ -50,6 +50,14 @@ public final class Constants {
     )
     public static final String CLI_APP_CLASS = "io.spine.tools.compiler.cli.app.MainKt";
 
+    /**
+     * The name of the static method of the {@link #CLI_APP_CLASS} which runs
+     * the Compiler without exiting the current process.
+     *
+     * <p>The method accepts the same arguments as the {@code main} method.
+     */
+    public static final String CLI_APP_LAUNCH_METHOD = "launch";
+
     /**
      * Prevents instantiation of this utility class.
      */
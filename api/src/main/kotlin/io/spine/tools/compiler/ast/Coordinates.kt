@@ -39,11 +39,16 @@ import com.google.protobuf.Descriptors.OneofDescriptor
 import com.google.protobuf.Descriptors.ServiceDescriptor
 import io.spine.tools.compiler.protobuf.withSourceLines
 import io.spine.tools.compiler.util.Cache
+import io.spine.tools.compiler.util.MAX_CACHED_FILES
 
 /**
  * Provides line and column numbers for declarations in a Protobuf file.
  */
-public class Coordinates private constructor(file: FileDescriptorProto) : Locations(file) {
+public class Coordinates : Locations {
+
+    private constructor(file: FileDescriptorProto) : super(file)
+
+    internal constructor(locations: Map<LocationPath, Location>) : super(locations)
 
     /**
      * Obtains declaration coordinates the given message.
@@ -118,15 +123,21 @@ public class Coordinates private constructor(file: FileDescriptorProto) : Locati
         return location.toSpan()
     }
 
-    public companion object : Cache<FileDescriptorProto, Coordinates>() {
+    public companion object : Cache<FileDescriptorProto, Coordinates>(
+        maximumSize = MAX_CACHED_FILES
+    ) {
 
         override fun create(key: FileDescriptorProto, param: Any?): Coordinates = Coordinates(key)
 
         /**
          * Obtains coordinates for the given file.
+         *
+         * The lookup is served by the [DescriptorIndex] of the current thread, if any.
+         * Otherwise, the coordinates are obtained [by the file proto][of].
          */
         @JvmStatic
-        public fun of(file: FileDescriptor): Coordinates = get(file.toProto(), null)
+        public fun of(file: FileDescriptor): Coordinates =
+            DescriptorIndex.current()?.coordinates(file) ?: of(file.toProto())
 
         /**
          * Obtains coordinates for the given file.
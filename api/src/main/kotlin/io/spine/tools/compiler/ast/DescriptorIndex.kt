@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.ast
+
+import com.google.protobuf.Descriptors.FileDescriptor
+import io.spine.annotation.Internal
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * Provides [Documentation] and [Coordinates] for Protobuf files by their descriptors.
+ *
+ * Descriptors are used as keys by their identity. This avoids computing hash codes of
+ * whole [FileDescriptorProto][com.google.protobuf.DescriptorProtos.FileDescriptorProto]s,
+ * including their source code info, on every lookup.
+ *
+ * The source code locations of a file are indexed once. The same index is shared by
+ * the `Documentation` and `Coordinates` instances of the file.
+ *
+ * An index is owned by a `Pipeline`, which serves the lookups of its run
+ * [within][within] the index. The index is discarded together with the pipeline.
+ * Outside an index, [Documentation.of] and [Coordinates.of] fall back to
+ * the lookup by the file proto.
+ */
+@Internal
+public class DescriptorIndex {
+
+    private val entries = ConcurrentHashMap<FileDescriptor, Entry>()
+
+    /**
+     * Obtains documentation for the given file.
+     */
+    public fun documentation(file: FileDescriptor): Documentation = entry(file).documentation
+
+    /**
+     * Obtains coordinates of declarations in the given file.
+     */
+    public fun coordinates(file: FileDescriptor): Coordinates = entry(file).coordinates
+
+    private fun entry(file: FileDescriptor): Entry = entries.computeIfAbsent(file, ::Entry)
+
+    /**
+     * Performs the given [action] with this index serving the lookups made by
+     * [Documentation.of] and [Coordinates.of] on the current thread.
+     *
+     * The index which served the lookups before the call is restored afterward.
+     */
+    public fun <T> within(action: () -> T): T {
+        val previous = current.get()
+        current.set(this)
+        try {
+            return action()
+        } finally {
+            if (previous == null) {
+                current.remove()
+            } else {
+                current.set(previous)
+            }
+        }
+    }
+
+    /**
+     * Source code locations of a file along with their views.
+     */
+    internal class Entry(file: FileDescriptor) {
+
+        private val locations = Locations.index(file.toProto().sourceCodeInfo.locationList)
+
+        /**
+         * The documentation of the file.
+         */
+        val documentation: Documentation by lazy {
+            Documentation(locations)
+        }
+
+        /**
+         * The coordinates of declarations in the file.
+         */
+        val coordinates: Coordinates by lazy {
+            Coordinates(locations)
+        }
+    }
+
+    internal companion object {
+
+        /**
+         * The index serving the lookups on the current thread.
+         */
+        private val current = ThreadLocal<DescriptorIndex>()
+
+        /**
+         * Obtains the index serving the lookups on the current thread, if any.
+         */
+        fun current(): DescriptorIndex? = current.get()
+    }
+}
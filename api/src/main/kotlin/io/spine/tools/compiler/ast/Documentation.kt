@@ -27,6 +27,7 @@
 package io.spine.tools.compiler.ast
 
 import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location
 import com.google.protobuf.Descriptors.Descriptor
 import com.google.protobuf.Descriptors.EnumDescriptor
 import com.google.protobuf.Descriptors.EnumValueDescriptor
@@ -38,12 +39,17 @@ import com.google.protobuf.Descriptors.OneofDescriptor
 import com.google.protobuf.Descriptors.ServiceDescriptor
 import io.spine.tools.compiler.protobuf.withSourceLines
 import io.spine.tools.compiler.util.Cache
+import io.spine.tools.compiler.util.MAX_CACHED_FILES
 import io.spine.string.trimWhitespace
 
 /**
  * Documentation contained in a Protobuf file.
  */
-public class Documentation private constructor(file: FileDescriptorProto) : Locations(file) {
+public class Documentation : Locations {
+
+    private constructor(file: FileDescriptorProto) : super(file)
+
+    internal constructor(locations: Map<LocationPath, Location>) : super(locations)
 
     /**
      * Obtains documentation for the given message.
@@ -122,16 +128,22 @@ public class Documentation private constructor(file: FileDescriptorProto) : Loca
         }
     }
 
-    public companion object : Cache<FileDescriptorProto, Documentation>() {
+    public companion object : Cache<FileDescriptorProto, Documentation>(
+        maximumSize = MAX_CACHED_FILES
+    ) {
 
         override fun create(key: FileDescriptorProto, param: Any?): Documentation =
             Documentation(key)
 
         /**
          * Obtains documentation for the given file.
+         *
+         * The lookup is served by the [DescriptorIndex] of the current thread, if any.
+         * Otherwise, the documentation is obtained [by the file proto][of].
          */
         @JvmStatic
-        public fun of(file: FileDescriptor): Documentation = get(file.toProto())
+        public fun of(file: FileDescriptor): Documentation =
+            DescriptorIndex.current()?.documentation(file) ?: of(file.toProto())
 
         /**
          * Obtains documentation for the given file.
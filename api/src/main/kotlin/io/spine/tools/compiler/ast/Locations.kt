@@ -32,11 +32,13 @@ import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location
 /**
  * Provides locations in a Protobuf file.
  */
-public abstract class Locations protected constructor(locations: List<Location>)  {
+public abstract class Locations
+internal constructor(private val map: Map<LocationPath, Location>) {
 
-    private val map: Map<LocationPath, Location> = locations.associateBy(
-        LocationPath.Companion::from
-    )
+    /**
+     * Creates an instance with the given locations.
+     */
+    protected constructor(locations: List<Location>) : this(index(locations))
 
     /**
      * Creates an instance with locations from the given file.
@@ -51,4 +53,13 @@ public abstract class Locations protected constructor(locations: List<Location>)
      */
     internal fun locationAt(path: LocationPath): Location =
         map[path] ?: Location.getDefaultInstance()
+
+    internal companion object {
+
+        /**
+         * Maps the given locations by their paths.
+         */
+        fun index(locations: List<Location>): Map<LocationPath, Location> =
+            locations.associateBy(LocationPath.Companion::from)
+    }
 }
@@ -32,6 +32,7 @@ import io.spine.server.entity.Entity
 import io.spine.server.integration.ThirdPartyContext
 import io.spine.server.query.Querying
 import io.spine.tools.compiler.type.TypeSystem
+import java.nio.file.Path
 
 /**
  * A context of code generation.
@@ -49,6 +50,27 @@ public interface CodegenContext : Querying, Closeable {
      */
     public val insertionPointsContext: ThirdPartyContext
 
+    /**
+     * The immutable snapshot of the views which do not change after
+     * the events of the Protobuf compiler are emitted.
+     *
+     * Is `null` until the compiler events are emitted, or if the context
+     * does not take snapshots.
+     *
+     * @see allStates
+     * @see stateById
+     */
+    public val snapshot: ViewSnapshot?
+        get() = null
+
+    /**
+     * The directory in which renderers keep the data reused by the following runs.
+     *
+     * Is `null` if no data is kept between runs.
+     */
+    public val cacheDirectory: Path?
+        get() = null
+
     /**
      * A test-only method that checks if the context has entities of the given type.
      */
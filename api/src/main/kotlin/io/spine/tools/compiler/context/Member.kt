@@ -39,9 +39,7 @@ import io.spine.tools.compiler.ast.messages
 import io.spine.tools.compiler.ast.services
 import io.spine.tools.compiler.settings.LoadsSettings
 import io.spine.tools.compiler.type.TypeSystem
-import io.spine.server.query.Querying
 import io.spine.server.query.QueryingClient
-import io.spine.server.query.select
 import io.spine.tools.code.Language
 
 /**
@@ -151,6 +149,13 @@ protected constructor(
         return this::_context.isInitialized
     }
 
+    /**
+     * Obtains the [snapshot][CodegenContext.snapshot] of the context
+     * this member is registered with, if any.
+     */
+    internal fun contextSnapshot(): ViewSnapshot? =
+        if (isRegistered()) _context.snapshot else null
+
     private fun checkContext(property: String) = check(this::_context.isInitialized) {
         "Access to `${this::class.simpleName}.$property` property is not allowed until " +
                 "the `Code Generation` context has been injected. Please invoke " +
@@ -165,7 +170,7 @@ protected constructor(
  * @return the found source file message, or `null` if the file was not found.
  */
 public fun Member<*>.findSource(path: File): ProtobufSourceFile? {
-    return (this as Querying).select<ProtobufSourceFile>().findById(path)
+    return stateById(ProtobufSourceFile::class.java, path)
         ?: findAllFiles().firstOrNull {
             it.file.path.endsWith(path.path)
         }
@@ -183,7 +188,7 @@ public fun Member<*>.findHeader(path: File): ProtoFileHeader? = findSource(path)
  * Obtains all Protobuf source code files passed to the current compilation process.
  */
 public fun Member<*>.findAllFiles(): Collection<ProtobufSourceFile> =
-    (this as Querying).select<ProtobufSourceFile>().all()
+    allStates(ProtobufSourceFile::class.java)
 
 /**
  * Obtains all the message types that are parsed by the current compilation process
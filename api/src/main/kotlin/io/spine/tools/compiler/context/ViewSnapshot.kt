@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.context
+
+import com.google.common.collect.ImmutableMap
+import com.google.common.collect.ImmutableSet
+import io.spine.annotation.Internal
+import io.spine.base.EntityState
+import io.spine.server.query.Querying
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * An immutable snapshot of the states of views in the `Code Generation` context.
+ *
+ * Once the events of the Protobuf compiler are emitted, the views built from them
+ * no longer change. Querying such views through the `BoundedContext` on each call
+ * of a renderer repeats the same work. The snapshot loads all the states of a type
+ * once, on the first access, and then serves them from memory, indexed by their IDs.
+ *
+ * Only the states of the given [types] are served by the snapshot. The states of other
+ * types, e.g., of views that change while rendering, must be queried from the context.
+ *
+ * @param querying The context to load the states from.
+ * @param types The classes of the states which do not change anymore.
+ */
+@Internal
+public class ViewSnapshot(
+    private val querying: Querying,
+    private val types: Set<Class<out EntityState<*>>>
+) {
+    private val states = ConcurrentHashMap<Class<*>, States<*>>()
+
+    /**
+     * Tells if the states of the given type are served by this snapshot.
+     */
+    public fun covers(type: Class<out EntityState<*>>): Boolean = type in types
+
+    /**
+     * Obtains all the states of the given type.
+     *
+     * @throws IllegalArgumentException if the type is not [covered][covers] by this snapshot.
+     */
+    public fun <S : EntityState<*>> all(type: Class<S>): Set<S> = statesOf(type).all
+
+    /**
+     * Obtains the state of the given type with the given ID.
+     *
+     * @return the found state, or `null` if there is no state with such an ID.
+     * @throws IllegalArgumentException if the type is not [covered][covers] by this snapshot.
+     */
+    public fun <S : EntityState<*>> findById(type: Class<S>, id: Any): S? = statesOf(type).byId[id]
+
+    private fun <S : EntityState<*>> statesOf(type: Class<S>): States<S> {
+        require(covers(type)) {
+            "The states of `${type.name}` are not covered by the snapshot."
+        }
+        val loaded = states.computeIfAbsent(type) {
+            States(querying.select(type).all())
+        }
+        @Suppress("UNCHECKED_CAST") // Ensured by the key of the map.
+        return loaded as States<S>
+    }
+}
+
+/**
+ * Loaded states of one type indexed by their IDs.
+ *
+ * The ID of an entity state is the value of its first field.
+ */
+private class States<S : EntityState<*>>(states: Collection<S>) {
+
+    val all: ImmutableSet<S> = ImmutableSet.copyOf(states)
+
+    val byId: ImmutableMap<Any, S> = all.associateBy { state ->
+        val idField = state.descriptorForType.fields.first()
+        state.getField(idField)
+    }.let { ImmutableMap.copyOf(it) }
+}
+
+/**
+ * Obtains all the states of the given type.
+ *
+ * If this instance is a [CodegenContext] or a [Member] registered with one, and
+ * the context has a [snapshot][CodegenContext.snapshot] covering the type,
+ * the states are obtained from the snapshot. Otherwise, they are queried.
+ */
+@Internal
+public fun <S : EntityState<*>> Querying.allStates(type: Class<S>): Set<S> {
+    val snapshot = snapshotCovering(type)
+    return snapshot?.all(type) ?: select(type).all()
+}
+
+/**
+ * Obtains the state of the given type with the given ID.
+ *
+ * Similarly to [allStates], prefers the [snapshot][CodegenContext.snapshot] of the context.
+ *
+ * @return the found state, or `null` if there is no state with such an ID.
+ */
+@Internal
+public fun <S : EntityState<*>> Querying.stateById(type: Class<S>, id: Any): S? {
+    val snapshot = snapshotCovering(type)
+    return if (snapshot != null) {
+        snapshot.findById(type, id)
+    } else {
+        select(type).findById(id)
+    }
+}
+
+private fun Querying.snapshotCovering(type: Class<out EntityState<*>>): ViewSnapshot? {
+    val snapshot = when (this) {
+        is CodegenContext -> snapshot
+        is Member<*> -> contextSnapshot()
+        else -> null
+    }
+    return snapshot?.takeIf { it.covers(type) }
+}
@@ -133,6 +133,32 @@ public fun Plugin.render(
     }
 }
 
+/**
+ * Renders the given source set via this Plugin's [Renderer]s.
+ *
+ * The renderers are guaranteed to be called in the order of their declaration in the plugin.
+ *
+ * Unlike [render], this function does not register the renderers with the context.
+ * It is intended for rendering several source sets concurrently after
+ * the renderers were [registered][registerRenderers].
+ */
+@Internal
+public fun Plugin.renderSet(sources: SourceFileSet) {
+    renderers.forEach { r ->
+        r.renderSources(sources)
+    }
+}
+
+/**
+ * Registers this Plugin's [Renderer]s with the given context.
+ */
+@Internal
+public fun Plugin.registerRenderers(codegenContext: CodegenContext) {
+    renderers.forEach { r ->
+        r.registerWith(codegenContext)
+    }
+}
+
 private fun Plugin.checkNoViewRepoDuplication(repos: MutableList<ViewRepository<*, *, *>>) {
     val repeatedView = repos.map { it.entityClass() }
         .groupingBy { it }
@@ -26,6 +26,7 @@
 
 package io.spine.tools.compiler.protobuf
 
+import io.spine.tools.compiler.util.PathSuffixIndex
 import java.io.File
 
 /**
@@ -35,8 +36,30 @@ import java.io.File
  */
 public class ProtoFileList(public val files: List<File>) {
 
+    /**
+     * The index of the [files] by their paths.
+     */
+    private val index: PathSuffixIndex<File> by lazy {
+        PathSuffixIndex<File>().apply {
+            files.forEach { put(it.toPath(), it) }
+        }
+    }
+
     /**
      * Finds the full pathname for the given file.
+     *
+     * The paths are matched by whole names of directories and the file.
+     * If more than one of the [files] ends with the path of the given [file],
+     * the first of them is returned.
+     *
+     * @see findAll
+     */
+    public fun find(file: File): File? = index.firstEndingWith(file.toPath())
+
+    /**
+     * Finds all the full pathnames ending with the path of the given file.
+     *
+     * The returned list has more than one element if the given [file] is ambiguous.
      */
-    public fun find(file: File): File? = files.find { it.path.endsWith(file.path) }
+    public fun findAll(file: File): List<File> = index.endingWith(file.toPath())
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import kotlin.math.max
+import kotlin.math.min
+
+/**
+ * The ranges of the lines of a [SourceFile] changed since its code was loaded.
+ *
+ * The ranges are numbered in the current lines of the file. When lines are
+ * inserted or removed, the ranges recorded before are shifted accordingly.
+ * The ranges which overlap or touch each other are merged.
+ *
+ * A change of particular lines is [recorded][replace] by its range. If only
+ * the lines before and after a change are known, the change is detected by
+ * [comparing][record] them. The lines at the start and at the end which did
+ * not change are skipped, and the rest is recorded as one range.
+ *
+ * A range may be empty, e.g., if lines were removed. Such a range marks
+ * the place of the change.
+ */
+internal class ChangedLines {
+
+    /**
+     * The ranges of the changed lines sorted by their starts.
+     */
+    private val spans = mutableListOf<Span>()
+
+    /**
+     * Tells if all the lines are considered changed.
+     */
+    private var whole = false
+
+    /**
+     * Tells if all the lines are considered changed, so that there is
+     * no point in [recording][record] particular changes.
+     */
+    val isWhole: Boolean
+        get() = whole
+
+    /**
+     * Considers all the lines changed.
+     */
+    fun recordAll() {
+        whole = true
+        spans.clear()
+    }
+
+    /**
+     * Records the change of the lines from [before] to [after].
+     */
+    fun record(before: List<String>, after: List<String>) {
+        if (whole) {
+            return
+        }
+        val limit = min(before.size, after.size)
+        var prefix = 0
+        while (prefix < limit && before[prefix] == after[prefix]) {
+            prefix++
+        }
+        var suffix = 0
+        while (suffix < limit - prefix &&
+            before[before.size - 1 - suffix] == after[after.size - 1 - suffix]) {
+            suffix++
+        }
+        val oldEnd = before.size - suffix
+        val newEnd = after.size - suffix
+        if (prefix == oldEnd && prefix == newEnd) {
+            return
+        }
+        add(prefix, oldEnd, newEnd)
+    }
+
+    /**
+     * Records the replacement of the [removed] lines starting at the [start] line
+     * with the [added] lines.
+     *
+     * The [start] is the number of the line in the lines resulting from
+     * the changes recorded before.
+     */
+    fun replace(start: Int, removed: Int, added: Int) {
+        if (whole || (removed == 0 && added == 0)) {
+            return
+        }
+        add(start, start + removed, start + added)
+    }
+
+    /**
+     * Adds the range of lines `[start, oldEnd)` replaced with the lines `[start, newEnd)`.
+     */
+    private fun add(start: Int, oldEnd: Int, newEnd: Int) {
+        if (spans.isEmpty() || spans.last().end < start) {
+            // A change below all the recorded ones, e.g., when changing lines top-down.
+            spans.add(Span(start, newEnd))
+            return
+        }
+        val delta = newEnd - oldEnd
+        var mergedStart = start
+        var mergedEnd = newEnd
+        val updated = ArrayList<Span>(spans.size + 1)
+        spans.forEach {
+            when {
+                it.end < start -> updated.add(it)
+                it.start > oldEnd -> updated.add(Span(it.start + delta, it.end + delta))
+                else -> {
+                    mergedStart = min(mergedStart, it.start)
+                    mergedEnd = max(mergedEnd, if (it.end > oldEnd) it.end + delta else newEnd)
+                }
+            }
+        }
+        updated.add(Span(mergedStart, mergedEnd))
+        updated.sortBy { it.start }
+        spans.clear()
+        spans.addAll(updated)
+    }
+
+    /**
+     * Obtains the ranges of the changed lines.
+     *
+     * @param lineCount The number of lines in the file.
+     * @return the ranges sorted by their starts, or an empty list if nothing changed.
+     */
+    fun ranges(lineCount: Int): List<IntRange> =
+        if (whole) {
+            listOf(0 until lineCount)
+        } else {
+            spans.map { it.start until min(it.end, lineCount) }
+        }
+
+    /**
+     * A range of lines from [start] inclusive to [end] exclusive.
+     */
+    private data class Span(val start: Int, val end: Int)
+}
+
+/**
+ * A replacement of the [removed] lines starting at the [start] line with the [added] lines.
+ */
+internal data class LineEdit(val start: Int, val removed: Int, val added: Int)
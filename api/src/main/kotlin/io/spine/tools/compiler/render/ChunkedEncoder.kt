@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import java.nio.ByteBuffer
+import java.nio.CharBuffer
+import java.nio.charset.Charset
+import java.nio.charset.CharsetEncoder
+import java.nio.charset.CoderResult
+import java.nio.charset.CodingErrorAction
+
+/**
+ * Encodes text passed in chunks through a byte buffer of a fixed size.
+ *
+ * The encoded bytes are passed to a sink each time the buffer is full, and
+ * once more when the text ends. So, encoding never holds all the bytes of
+ * the text in memory.
+ *
+ * Malformed input and unmappable characters are replaced with the replacement
+ * bytes of the [charset].
+ *
+ * The chunks must not split surrogate pairs. For example, lines of code and
+ * line separators are such chunks.
+ *
+ * The encoder is not thread-safe.
+ *
+ * @param charset The charset to encode the text.
+ * @param bufferSize The size of the buffer with the encoded bytes.
+ */
+internal class ChunkedEncoder(
+    charset: Charset,
+    bufferSize: Int = DEFAULT_BUFFER_SIZE
+) {
+    private val encoder: CharsetEncoder = charset.newEncoder()
+        .onMalformedInput(CodingErrorAction.REPLACE)
+        .onUnmappableCharacter(CodingErrorAction.REPLACE)
+
+    private val buffer = ByteBuffer.allocate(bufferSize)
+
+    /**
+     * Encodes the given [chunks] of text passing the encoded bytes to the [sink].
+     *
+     * The sink receives the buffer ready for reading and returns `false` to stop
+     * the encoding. The bytes of the buffer are discarded once the sink returns.
+     *
+     * @return `true` if all the chunks were encoded, `false` if the [sink] stopped
+     *   the encoding.
+     */
+    fun encode(chunks: Sequence<CharSequence>, sink: (ByteBuffer) -> Boolean): Boolean {
+        encoder.reset()
+        buffer.clear()
+        for (chunk in chunks) {
+            val input = CharBuffer.wrap(chunk)
+            if (!encode(input, endOfInput = false, sink)) {
+                return false
+            }
+        }
+        if (!encode(CharBuffer.allocate(0), endOfInput = true, sink)) {
+            return false
+        }
+        while (true) {
+            val result = encoder.flush(buffer)
+            if (!handle(result, sink)) {
+                return false
+            }
+            if (result.isUnderflow) {
+                break
+            }
+        }
+        return drain(sink)
+    }
+
+    private fun encode(
+        input: CharBuffer,
+        endOfInput: Boolean,
+        sink: (ByteBuffer) -> Boolean
+    ): Boolean {
+        while (true) {
+            val result = encoder.encode(input, buffer, endOfInput)
+            if (!handle(result, sink)) {
+                return false
+            }
+            if (result.isUnderflow) {
+                return true
+            }
+        }
+    }
+
+    /**
+     * Passes the encoded bytes to the [sink] if the [buffer] overflowed.
+     */
+    private fun handle(result: CoderResult, sink: (ByteBuffer) -> Boolean): Boolean {
+        if (result.isError) {
+            result.throwException()
+        }
+        return if (result.isOverflow) drain(sink) else true
+    }
+
+    private fun drain(sink: (ByteBuffer) -> Boolean): Boolean {
+        buffer.flip()
+        val proceed = !buffer.hasRemaining() || sink(buffer)
+        buffer.clear()
+        return proceed
+    }
+
+    private companion object {
+
+        /**
+         * The default size of the buffer with the encoded bytes.
+         */
+        const val DEFAULT_BUFFER_SIZE = 8 * 1024
+    }
+}
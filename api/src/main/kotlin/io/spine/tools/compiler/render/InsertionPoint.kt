@@ -29,6 +29,7 @@ package io.spine.tools.compiler.render
 import io.spine.logging.WithLogging
 import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.ast.qualifiedName
+import java.lang.System.lineSeparator
 
 /**
  * A point is a source file, where more code may be inserted.
@@ -64,6 +65,25 @@ public interface InsertionPoint : CoordinatesFactory, WithLogging {
      */
     public fun locate(text: String): Set<TextCoordinates>
 
+    /**
+     * Locates the sites where the insertion point should be added in the code
+     * split into lines.
+     *
+     * A [SourceFile] passes its lines to this method, so that the lines are not joined
+     * into the text after each insertion of code. The default implementation calls
+     * [locate(String)][locate] with the text of the lines. The text of the lines of
+     * a `SourceFile` is joined at most once per change of the file.
+     *
+     * Insertion points which look for their sites line by line should override
+     * this method to avoid joining the lines.
+     *
+     * @param lines
+     *         the existing code split into lines.
+     * @return the coordinates in the text where the insertion point should be added.
+     * @see SourceFile.at
+     */
+    public fun locate(lines: List<String>): Set<TextCoordinates> = locate(lines.text())
+
     @Deprecated(
         message = "Use `locate(String)` instead.",
         replaceWith = ReplaceWith("locate(text.value)")
@@ -163,8 +183,36 @@ public class ProtocInsertionPoint(
      */
     public constructor(scope: String, type: TypeName) : this("$scope:${type.qualifiedName}")
 
-    override fun locate(text: String): Set<TextCoordinates> = buildSet {
-        text.lines().mapIndexed { index, line ->
+    override fun locate(text: String): Set<TextCoordinates> {
+        if (!ProtocMarkers.canIndex(label)) {
+            return scan(text.lines())
+        }
+        return ProtocMarkers.of(text)
+            .linesOf(label)
+            .toCoordinates()
+    }
+
+    /**
+     * Locates the lines with the marker of this insertion point without joining
+     * the given [lines] into the text.
+     *
+     * If these are the lines of a [SourceFile], the index of the markers kept by
+     * the file is used.
+     */
+    override fun locate(lines: List<String>): Set<TextCoordinates> {
+        if (!ProtocMarkers.canIndex(label)) {
+            return scan(lines)
+        }
+        val markers = (lines as? LineBuffer.Lines)?.protocMarkers() ?: ProtocMarkers.of(lines)
+        return markers.linesOf(label)
+            .toCoordinates()
+    }
+
+    private fun List<Int>.toCoordinates(): Set<TextCoordinates> =
+        mapTo(LinkedHashSet()) { atLine(it + 1) }
+
+    private fun scan(lines: List<String>): Set<TextCoordinates> = buildSet {
+        lines.forEachIndexed { index, line ->
             if (line.contains(codeLine)) {
                 add(atLine(index + 1))
             }
@@ -177,3 +225,12 @@ public class ProtocInsertionPoint(
     public val protocStyleCodeLine: String
         get() = "@@protoc_insertion_point($label)"
 }
+
+/**
+ * Obtains the text of these lines of code.
+ *
+ * If these are the lines of a [SourceFile], the text is obtained from the file,
+ * which joins the lines only once after they change.
+ */
+private fun List<String>.text(): String =
+    (this as? LineBuffer.Lines)?.text() ?: joinToString(lineSeparator())
@@ -76,93 +76,127 @@ public abstract class InsertionPointPrinter<L: Language>(
 
     final override fun render(sources: SourceFileSet) {
         sources.prepareCode { file ->
-            @Suppress("DEPRECATION") // Still have to support the deprecated method.
-            supportedInsertionPoints()
-                .filter { it.label.isNotEmpty() }
-                .forEach { point ->
-                    print(file, point)
-                }
+            printAll(file)
         }
     }
 
-    private fun print(
-        file: SourceFile<*>,
-        point: InsertionPoint
-    ) {
-        val text = file.code()
-        val coords = point.locate(text)
-        val precedent = coords.precedentType()
-        if (precedent != null) {
-            coords.ensureSameType(point, precedent)
-            val lines = file.lines().toMutableList()
-            when (precedent) {
-                INLINE -> renderInlinePoint(coords, lines, point, file)
-                WHOLE_LINE -> renderWholeLinePoint(coords, lines, point, file)
-                else -> error("Unexpected precedent type $precedent.")
+    /**
+     * Prints all the supported insertion points into the given [file] at once.
+     *
+     * All the points are located in the same original code of the file.
+     * Then, the comments of all the points are inserted in one pass over
+     * the lines of the file, instead of rewriting the file for each point.
+     */
+    private fun printAll(file: SourceFile<*>) {
+        val lines = file.codeLines()
+        @Suppress("DEPRECATION") // Still have to support the deprecated method.
+        val sites = supportedInsertionPoints()
+            .filter { it.label.isNotEmpty() }
+            .mapNotNull { point -> locate(point, lines) }
+        if (sites.isEmpty()) {
+            return
+        }
+        val edits = mutableListOf<LineEdit>()
+        val printed = print(sites, lines, edits)
+        file.rewriteLines(printed, edits)
+        sites.forEach { site ->
+            repeat(site.reportCount) {
+                reportPoint(file, site.point.label, site.comment)
             }
-            file.updateLines(lines)
         }
     }
 
-    private fun renderWholeLinePoint(
-        coordinates: Set<TextCoordinates>,
-        lines: MutableList<String>,
-        point: InsertionPoint,
-        file: SourceFile<*>
-    ) {
+    private fun locate(point: InsertionPoint, lines: List<String>): PointSites? {
+        val coords = point.locate(lines)
+        val precedent = coords.precedentType() ?: return null
+        coords.ensureSameType(point, precedent)
         val comment = target.comment(point.codeLine)
-        val lineNumbers = coordinates
-            .filter { it.hasWholeLine() }
-            .map { it.wholeLine }
-        lineNumbers.forEach {
-            lines.checkLineNumber(it)
-        }
-        val correctedLineNumbers = lineNumbers.asSequence()
-            .sorted()
-            .mapIndexed { index, lineNumber -> lineNumber + index }
-        correctedLineNumbers.forEach {
-            lines.add(it, comment)
-        }
-        if (endOfFile in coordinates) {
-            lines.add(comment)
+        return when (precedent) {
+            INLINE -> PointSites(
+                point,
+                comment,
+                inline = coords.map { it.inline }.groupBy({ it.line }, { it.column })
+            )
+            WHOLE_LINE -> PointSites(
+                point,
+                comment,
+                wholeLines = coords.filter { it.hasWholeLine() }.map { it.wholeLine },
+                atEnd = endOfFile in coords
+            )
+            else -> error("Unexpected precedent type $precedent.")
         }
-        reportPoint(file, point.label, comment)
     }
 
-    private fun renderInlinePoint(
-        coordinates: Set<TextCoordinates>,
-        lines: MutableList<String>,
-        point: InsertionPoint,
-        file: SourceFile<*>
-    ) {
-        val cursors = coordinates.map { it.inline }
-        val cursorsByLine = cursors.groupBy({ it.line }, { it.column })
-        val comment = target.comment(point.codeLine)
-        cursorsByLine.forEach { (lineNumber, columns) ->
-            lines.checkLineNumber(lineNumber)
-            val line = lines[lineNumber]
-            columns.forEach {
-                line.checkLinePosition(it)
+    /**
+     * Obtains the given [lines] with the comments of all the [sites] inserted.
+     *
+     * The comments added before the same line, or at the same column of a line,
+     * follow in the order of the [sites].
+     *
+     * The changes of the lines are added to the [edits] top-down, so that
+     * the changed ranges are known without comparing the lines.
+     */
+    private fun print(
+        sites: List<PointSites>,
+        lines: List<String>,
+        edits: MutableList<LineEdit>
+    ): List<String> {
+        val before = HashMap<Int, MutableList<String>>()
+        val inline = HashMap<Int, MutableList<Pair<Int, String>>>()
+        val atEnd = mutableListOf<String>()
+        sites.forEach { site ->
+            site.wholeLines.forEach {
+                lines.checkLineNumber(it)
+                before.getOrPut(it) { mutableListOf() }.add(site.comment)
+            }
+            if (site.atEnd) {
+                atEnd.add(site.comment)
+            }
+            site.inline.forEach { (lineNumber, columns) ->
+                lines.checkLineNumber(lineNumber)
+                val line = lines[lineNumber]
+                val cursors = inline.getOrPut(lineNumber) { mutableListOf() }
+                columns.sorted().forEach {
+                    line.checkLinePosition(it)
+                    cursors.add(it to site.comment)
+                }
             }
-            val cols = columns.sorted()
-            lines[lineNumber] = annotate(line, cols, comment)
-            reportPoint(file, point.label, comment)
         }
+        val result = ArrayList<String>(lines.size + before.values.sumOf { it.size } + atEnd.size)
+        lines.forEachIndexed { index, line ->
+            before[index]?.let {
+                edits.add(LineEdit(result.size, 0, it.size))
+                result.addAll(it)
+            }
+            val cursors = inline[index]
+            if (cursors == null) {
+                result.add(line)
+            } else {
+                edits.add(LineEdit(result.size, 1, 1))
+                result.add(annotate(line, cursors))
+            }
+        }
+        if (atEnd.isNotEmpty()) {
+            edits.add(LineEdit(result.size, 0, atEnd.size))
+            result.addAll(atEnd)
+        }
+        return result
     }
 
-    private fun annotate(line: String, cols: List<Int>, comment: String) = buildString {
-        append(line.substring(0, cols.first()))
-        cols.forEachIndexed { index, column ->
+    /**
+     * Inserts the comments into the given [line] at the columns
+     * specified by the [cursors].
+     */
+    private fun annotate(line: String, cursors: List<Pair<Int, String>>) = buildString {
+        var start = 0
+        cursors.sortedBy { it.first }.forEach { (column, comment) ->
+            append(line, start, column)
             append(' ')
             append(comment)
             append(' ')
-            val nextPart = if (index + 1 == cols.size) {
-                line.substring(column)
-            } else {
-                line.substring(column, cols[index + 1])
-            }
-            append(nextPart)
+            start = column
         }
+        append(line, start, line.length)
     }
 
     private fun reportPoint(sourceFile: SourceFile<*>, pointLabel: String, comment: String) {
@@ -251,3 +285,29 @@ private fun TextCoordinates.compatibleWith(
     END_OF_TEXT -> precedentType == WHOLE_LINE
     else -> true
 }
+
+/**
+ * The sites in the code of a file where an insertion [point] should be printed.
+ *
+ * @property point The insertion point to print.
+ * @property comment The code of the [point] as a comment in the language of the file.
+ * @property wholeLines The indexes of the lines before which the [comment] should be inserted.
+ * @property atEnd Tells if the [comment] should be added to the end of the file.
+ * @property inline The columns at which the [comment] should be inserted, grouped by lines.
+ */
+private class PointSites(
+    val point: InsertionPoint,
+    val comment: String,
+    val wholeLines: List<Int> = emptyList(),
+    val atEnd: Boolean = false,
+    val inline: Map<Int, List<Int>> = emptyMap()
+) {
+
+    /**
+     * The number of the events to emit for this point.
+     *
+     * A whole-line point is reported once, an inline point is reported once per line.
+     */
+    val reportCount: Int
+        get() = if (inline.isEmpty()) 1 else inline.size
+}
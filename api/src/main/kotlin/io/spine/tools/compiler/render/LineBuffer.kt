@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import java.lang.System.lineSeparator
+
+/**
+ * A mutable buffer of the code of a [SourceFile] indexed by lines.
+ *
+ * The buffer keeps the code either as a whole text, or as a list of lines,
+ * or both, converting between the representations only when necessary.
+ * Because of this, a series of [edits][edit] of the lines does not split
+ * and join the whole code after each edit. The text is joined only when
+ * it is [requested][text] after the lines were edited.
+ *
+ * When the lines are joined, they are separated with the [line separator][lineSeparator]
+ * of the current platform.
+ *
+ * The buffer is not thread-safe.
+ */
+internal class LineBuffer private constructor(
+    private var text: String?,
+    private var lines: ArrayList<String>?
+) {
+
+    /**
+     * The read-only view of the [lines].
+     */
+    private val view = Lines()
+
+    /**
+     * The index of the protoc insertion point markers in the code,
+     * or `null` if the code was edited since the index was built.
+     */
+    private var markers: ProtocMarkers? = null
+
+    /**
+     * Creates a buffer with the given [code].
+     */
+    constructor(code: String) : this(code, null)
+
+    /**
+     * Obtains the code of this buffer.
+     */
+    fun text(): String {
+        text?.let { return it }
+        return lines!!.joinToString(lineSeparator()).also {
+            text = it
+        }
+    }
+
+    /**
+     * Obtains the code of this buffer as a sequence of chunks without joining the lines.
+     *
+     * If the code was not split into lines, or the lines were not edited since
+     * the code was joined, the only chunk is the whole code. Otherwise, the chunks
+     * are the lines interleaved with the [line separators][lineSeparator].
+     */
+    fun chunks(): Sequence<CharSequence> {
+        text?.let { return sequenceOf(it) }
+        val lines = lines!!
+        val separator = lineSeparator()
+        return sequence {
+            lines.forEachIndexed { index, line ->
+                if (index > 0) {
+                    yield(separator)
+                }
+                yield(line)
+            }
+        }
+    }
+
+    /**
+     * Obtains a read-only view of the lines of this buffer.
+     *
+     * The view reflects further [edits][edit] of the buffer.
+     */
+    fun lines(): List<String> = view
+
+    /**
+     * Applies the given [action] to the lines of this buffer.
+     *
+     * The action may add, remove, or replace lines in the passed list.
+     */
+    fun <T> edit(action: (MutableList<String>) -> T): T {
+        val lines = mutableLines()
+        text = null
+        markers = null
+        return action(lines)
+    }
+
+    /**
+     * Obtains the index of the protoc insertion point markers in the code of this buffer.
+     *
+     * The index is built once and reused until the buffer is [edited][edit].
+     * The [replacements][replace] of lines update the index.
+     */
+    fun protocMarkers(): ProtocMarkers {
+        markers?.let { return it }
+        return ProtocMarkers.of(view).also {
+            markers = it
+        }
+    }
+
+    /**
+     * Replaces the [count] lines starting at the [start] line with the [newLines].
+     *
+     * Unlike an arbitrary [edit], the replacement keeps the index of
+     * the [protoc markers][protocMarkers] by updating it for the changed lines.
+     */
+    fun replace(start: Int, count: Int, newLines: List<String>) {
+        val lines = mutableLines()
+        text = null
+        val range = lines.subList(start, start + count)
+        range.clear()
+        range.addAll(newLines)
+        markers?.replace(start, count, newLines)
+    }
+
+    private fun mutableLines(): ArrayList<String> {
+        lines?.let { return it }
+        return ArrayList(text!!.lines()).also {
+            lines = it
+        }
+    }
+
+    /**
+     * A read-only view of the lines of the buffer.
+     *
+     * The view also gives access to the [text][LineBuffer.text] of the buffer.
+     * This way, the lines passed to an [InsertionPoint] are not joined again
+     * if the buffer already has the text.
+     */
+    inner class Lines : AbstractList<String>(), RandomAccess {
+
+        override val size: Int
+            get() = mutableLines().size
+
+        override fun get(index: Int): String = mutableLines()[index]
+
+        /**
+         * Obtains the code of the buffer.
+         */
+        fun text(): String = this@LineBuffer.text()
+
+        /**
+         * Obtains the index of the protoc insertion point markers in the code of the buffer.
+         */
+        fun protocMarkers(): ProtocMarkers = this@LineBuffer.protocMarkers()
+    }
+
+    companion object {
+
+        /**
+         * Creates a buffer with the given lines of code.
+         */
+        fun ofLines(lines: List<String>): LineBuffer = LineBuffer(null, ArrayList(lines))
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+/**
+ * An index of the [ProtocInsertionPoint] markers found in a code text.
+ *
+ * The index is built in one pass over the code, and then reused by all
+ * the `ProtocInsertionPoint`s located in the same code. This way, the code with
+ * many markers is not scanned again for each of them.
+ *
+ * The index of the code of a [SourceFile] is kept by the [LineBuffer] of the file,
+ * which [updates][replace] the index when lines are replaced. Other instances are
+ * not cached, so that the index does not keep the indexed code alive.
+ */
+internal class ProtocMarkers private constructor() {
+
+    /**
+     * Zero-based indexes of the lines containing the markers, by the marker labels.
+     */
+    private val lines = HashMap<String, MutableList<Int>>()
+
+    /**
+     * Adds the marker with the given [label] found at the given [line].
+     *
+     * The lines must be added in ascending order.
+     */
+    private fun add(label: String, line: Int) {
+        if (canIndex(label)) {
+            val found = lines.getOrPut(label) { mutableListOf() }
+            if (found.lastOrNull() != line) {
+                found.add(line)
+            }
+        }
+    }
+
+    /**
+     * Obtains the zero-based indexes of the lines containing the marker with the given [label].
+     */
+    fun linesOf(label: String): List<Int> = lines[label] ?: emptyList()
+
+    /**
+     * Updates this index after the [removed] lines starting at the [start] line
+     * were replaced with the [added] lines.
+     *
+     * Only the [added] lines are scanned. The markers in the removed lines are dropped,
+     * and the markers below them are shifted.
+     */
+    fun replace(start: Int, removed: Int, added: List<String>) {
+        val end = start + removed
+        val delta = added.size - removed
+        lines.values.forEach { found ->
+            found.removeIf { it in start until end }
+            found.replaceAll { if (it >= end) it + delta else it }
+        }
+        of(added).lines.forEach { (label, found) ->
+            val existing = lines.getOrPut(label) { mutableListOf() }
+            val position = existing.binarySearch(start).let { if (it < 0) -it - 1 else it }
+            existing.addAll(position, found.map { it + start })
+        }
+        lines.values.removeIf { it.isEmpty() }
+    }
+
+    companion object {
+
+        private const val PREFIX = "@@protoc_insertion_point("
+
+        /**
+         * Creates the index of the markers in the given [lines].
+         */
+        fun of(lines: List<String>): ProtocMarkers {
+            val index = ProtocMarkers()
+            lines.forEachIndexed { line, content ->
+                var start = content.indexOf(PREFIX)
+                while (start >= 0) {
+                    val labelStart = start + PREFIX.length
+                    val end = content.indexOf(')', labelStart)
+                    if (end > 0) {
+                        index.add(content.substring(labelStart, end), line)
+                    }
+                    start = content.indexOf(PREFIX, start + 1)
+                }
+            }
+            return index
+        }
+
+        /**
+         * Creates the index of the markers in the given [text].
+         */
+        fun of(text: String): ProtocMarkers {
+            val index = ProtocMarkers()
+            var line = 0
+            var position = 0
+            var start = text.indexOf(PREFIX)
+            while (start >= 0) {
+                line += text.countLineBreaks(position, start)
+                position = start
+                val labelStart = start + PREFIX.length
+                val end = text.indexOf(')', labelStart)
+                if (end > 0) {
+                    index.add(text.substring(labelStart, end), line)
+                }
+                start = text.indexOf(PREFIX, start + 1)
+            }
+            return index
+        }
+
+        /**
+         * Tells if a marker with the given [label] can be found via the index.
+         *
+         * Labels containing a closing parenthesis or a line break
+         * are located by scanning the text directly.
+         */
+        fun canIndex(label: String): Boolean =
+            label.none { it == ')' || it == '\n' || it == '\r' }
+    }
+}
+
+/**
+ * Counts line breaks in this text between the [from] and [to] positions.
+ *
+ * The line breaks are counted the same way as [String.lines] splits the text.
+ */
+private fun String.countLineBreaks(from: Int, to: Int): Int {
+    var count = 0
+    for (i in from until to) {
+        val c = this[i]
+        if (c == '\n' || (c == '\r' && (i + 1 >= length || this[i + 1] != '\n'))) {
+            count++
+        }
+    }
+    return count
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import com.intellij.openapi.project.Project
+import com.intellij.psi.PsiElementFactory
+import io.spine.annotation.Internal
+import io.spine.tools.psi.java.Environment
+
+/**
+ * The access point to the IntelliJ PSI [Environment] for the code of the Compiler.
+ *
+ * Each access waits for the [warm-up][PsiWarmUp] of the environment started
+ * in background, so that the environment is never set up by two threads at
+ * the same time. The code of the Compiler and its plugins should use
+ * the environment only via this object.
+ */
+@Internal
+public object PsiEnvironment {
+
+    /**
+     * The project of the environment.
+     */
+    public val project: Project
+        get() {
+            setUp()
+            return Environment.project
+        }
+
+    /**
+     * The factory of Java PSI elements of the environment.
+     */
+    public val elementFactory: PsiElementFactory
+        get() {
+            setUp()
+            return Environment.elementFactory
+        }
+
+    /**
+     * Sets up the environment, unless it is already set up.
+     *
+     * This is fast to call repeatedly.
+     */
+    public fun setUp() {
+        PsiWarmUp.await()
+        Environment.setUp()
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import com.intellij.openapi.fileTypes.FileTypeRegistry
+import com.intellij.psi.PsiFileFactory
+import io.spine.annotation.Internal
+import io.spine.logging.WithLogging
+import io.spine.tools.psi.java.Environment
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.FutureTask
+import java.util.concurrent.atomic.AtomicReference
+import kotlin.concurrent.thread
+
+/**
+ * Sets up the IntelliJ PSI environment in background.
+ *
+ * Setting up the environment takes seconds. The pipeline [starts][start] the warm-up
+ * before parsing the request and emitting events, so that the environment is ready,
+ * or almost ready, by the time renderers need it.
+ *
+ * The code which uses the PSI environment goes through [PsiEnvironment], which
+ * [awaits][await] the warm-up, so that the environment is never set up by two threads
+ * at the same time. If the warm-up fails, [await] returns normally, and the environment
+ * is set up by the code which needs it, reporting the error, if it is still there.
+ */
+@Internal
+public object PsiWarmUp : WithLogging {
+
+    /**
+     * The name of the file parsed to warm up the parser.
+     */
+    private const val SAMPLE_FILE = "WarmUp.java"
+
+    /**
+     * The code parsed to warm up the parser.
+     */
+    private const val SAMPLE_CODE = "final class WarmUp { void run() { } }"
+
+    private val task = AtomicReference<FutureTask<Unit>?>()
+
+    /**
+     * Starts the warm-up in a background thread, unless it is already started.
+     */
+    public fun start() {
+        val warmUp = FutureTask(::warmUp)
+        if (task.compareAndSet(null, warmUp)) {
+            thread(name = "psi-warm-up", isDaemon = true) {
+                warmUp.run()
+            }
+        }
+    }
+
+    /**
+     * Waits for the warm-up to complete, if it was [started][start].
+     */
+    internal fun await() {
+        val warmUp = task.get() ?: return
+        try {
+            warmUp.get()
+        } catch (e: ExecutionException) {
+            logger.atDebug().withCause(e.cause).log {
+                "Unable to warm up the PSI environment in background."
+            }
+        }
+    }
+
+    private fun warmUp() {
+        Environment.setUp()
+        val project = Environment.project
+        val registry = FileTypeRegistry.getInstance()
+        val fileType = registry.getFileTypeByFileName(SAMPLE_FILE)
+        PsiFileFactory.getInstance(project)
+            .createFileFromText(SAMPLE_FILE, fileType, SAMPLE_CODE)
+    }
+}
@@ -37,11 +37,31 @@ import io.spine.tools.code.Language
  * Instances of `Renderer`s are usually created by
  * the [Plugin.renderers][io.spine.tools.compiler.plugin.Plugin.renderers] method.
  *
+ * ### Concurrency
+ *
+ * When the pipeline renders several source sets concurrently, the same renderer
+ * instance may be called for different source sets from different threads.
+ * Renderers are not assumed to be thread-safe. Unless a renderer overrides
+ * [isThreadSafe] to return `true`, its calls are serialized with the calls of
+ * all the other renderers that are not thread-safe.
+ *
  * @see RenderAction
  */
 public abstract class Renderer<L : Language>
 protected constructor(language: L) : Member<L>(language) {
 
+    /**
+     * Tells if this renderer may process different source sets concurrently.
+     *
+     * A thread-safe renderer must not keep a mutable state shared between source sets.
+     * It must not modify PSI trees either, because the PSI environment shared by
+     * all the source files is not safe for concurrent modification.
+     *
+     * The default value is `false`.
+     */
+    public open val isThreadSafe: Boolean
+        get() = false
+
     /**
      * Performs required changes to the given source set.
      *
@@ -65,7 +85,13 @@ protected constructor(language: L) : Member<L>(language) {
         }
 
         relevantFiles.prepareForQueries(this)
-        render(relevantFiles)
+        if (isThreadSafe) {
+            render(relevantFiles)
+        } else {
+            RenderingLock.exclusively {
+                render(relevantFiles)
+            }
+        }
         sources.mergeBack(relevantFiles)
     }
 
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import java.util.concurrent.locks.ReentrantLock
+import kotlin.concurrent.withLock
+
+/**
+ * The lock which serializes the rendering work that is not safe for concurrent execution.
+ *
+ * When source sets are rendered concurrently, the lock is held:
+ *  1. By [Renderer]s which are not [thread-safe][Renderer.isThreadSafe] for the whole
+ *     duration of rendering a source set.
+ *  2. By [SourceFile.psi] while the code of a file is parsed into a PSI tree.
+ *
+ * The lock guards the state shared between the source sets:
+ *  * the fields of the renderers which are not thread-safe, as the same instance
+ *    of a renderer processes all the source sets;
+ *  * the IntelliJ PSI environment shared by all the source files, which is not safe
+ *    for concurrent modification. Because of this, renderers that modify PSI trees
+ *    must not declare themselves thread-safe.
+ *
+ * The state of a [SourceFile], including its code buffer and PSI tree, is not guarded.
+ * A file belongs to one source set and is modified only by the thread rendering this set.
+ *
+ * The lock is reentrant, so a renderer holding it may safely call [SourceFile.psi].
+ */
+internal object RenderingLock {
+
+    private val lock = ReentrantLock()
+
+    /**
+     * Executes the given [action] holding the lock.
+     */
+    fun <T> exclusively(action: () -> T): T = lock.withLock(action)
+}
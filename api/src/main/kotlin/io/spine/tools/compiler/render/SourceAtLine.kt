@@ -73,24 +73,18 @@ internal constructor(
      *         code lines.
      */
     public fun add(lines: Iterable<String>) {
-        val text = file.code()
-        val sourceLines = text.lines()
-        val locations = point.locate(text).map { it.wholeLine }
+        val locations = point.locate(file.codeLines()).map { it.wholeLine }
+        if (locations.isEmpty()) {
+            return
+        }
         val newCode = lines.indent(indent, indentLevel)
         val newLines = newCode.lines()
-        var alreadyInsertedCount = 0
-        val updatedLines = ArrayList(sourceLines)
-        sourceLines.forEachIndexed { index, _ ->
-            if (locations.contains(index)) {
-                //   1. Take the index of the insertion point before any new code is added.
-                //   2. Add the number of lines taken up by the code inserted above this line.
-                //   3. Insert code at the next line, after the insertion point.
-                val trueLineNumber = index + (alreadyInsertedCount * newLines.size)
-                updatedLines.addAll(trueLineNumber, newLines)
-                alreadyInsertedCount++
-            }
-        }
-        file.updateLines(updatedLines)
+        val lineCount = file.codeLines().size
+        // Insert from the bottom up so that the indexes of the points above stay valid.
+        locations.filter { it in 0 until lineCount }
+            .distinct()
+            .sortedDescending()
+            .forEach { file.replaceLines(it, 0, newLines) }
     }
 }
 
@@ -65,13 +65,15 @@ internal class SpecificPoint(
 
     override fun add(codeFragment: String) {
         TextFactory.checkNoSeparator(codeFragment)
-        val sourceLines = file.lines()
-        val updatedLines = ArrayList(sourceLines)
-        sourceLines.asSequence()
-            .mapIndexed { index, line -> CodeLine(index, line) }
-            .map { line -> line.insertInline(point, codeFragment) }
-            .forEach { (index, line) -> updatedLines[index] = line }
-        file.updateLines(updatedLines)
+        val lines = file.codeLines()
+        val changed = lines.indices.mapNotNull { index ->
+            val line = CodeLine(index, lines[index])
+            val updated = line.insertInline(point, codeFragment)
+            if (updated === line) null else updated
+        }
+        changed.forEach {
+            file.replaceLines(it.lineIndex, 1, listOf(it.content))
+        }
     }
 }
 
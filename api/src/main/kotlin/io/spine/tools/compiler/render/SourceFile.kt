@@ -30,25 +30,28 @@ import com.intellij.openapi.fileTypes.FileType
 import com.intellij.openapi.fileTypes.FileTypeRegistry
 import com.intellij.psi.PsiFile
 import com.intellij.psi.PsiFileFactory
+import io.spine.annotation.Internal
 import io.spine.annotation.VisibleForTesting
 import io.spine.server.query.select
 import io.spine.tools.code.Language
 import io.spine.tools.compiler.ast.toProto
 import io.spine.tools.compiler.render.SourceFile.Companion.fromCode
 import io.spine.tools.compiler.render.TextFactory.text
-import io.spine.tools.compiler.util.Cache
 import io.spine.tools.psi.convertLineSeparators
-import io.spine.tools.psi.java.Environment
-import java.lang.System.lineSeparator
+import java.nio.ByteBuffer
+import java.nio.channels.FileChannel
 import java.nio.charset.Charset
+import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.StandardCopyOption.REPLACE_EXISTING
 import java.nio.file.StandardOpenOption.CREATE
+import java.nio.file.StandardOpenOption.READ
 import java.nio.file.StandardOpenOption.TRUNCATE_EXISTING
 import java.nio.file.StandardOpenOption.WRITE
 import java.time.Instant
 import kotlin.io.path.div
+import kotlin.io.path.isRegularFile
 import kotlin.io.path.readText
-import kotlin.io.path.writeText
 
 /**
  * A file with the source code.
@@ -64,9 +67,13 @@ import kotlin.io.path.writeText
  *   [AnyLanguage][io.spine.tools.code.AnyLanguage], if the file is in the language
  *   not currently supported.
  * @property relativePath the file system path to the file relative to the source root.
- * @property code the source code.
+ * @param content the source code, or `null` if the code is to be loaded
+ *   from the [origin] file.
  * @property changed tells if the [code] was modified after it was loaded, or
  *   if the file was created [from the code][fromCode].
+ * @property origin the file from which the code is loaded when it is first accessed,
+ *   or `null` if the file was created [from the code][fromCode].
+ * @property originCharset the charset of the [origin] file.
  * @see SourceFileSet
  */
 @Suppress(
@@ -77,13 +84,52 @@ public class SourceFile<L: Language>
 private constructor(
     public val language: Language,
     public val relativePath: Path,
-    private var code: String,
-    private var changed: Boolean = false
+    content: String?,
+    private var changed: Boolean = false,
+    private val origin: Path? = null,
+    private val originCharset: Charset = Charsets.UTF_8
 ) {
     private lateinit var sources: SourceFileSet
     private val preReadActions = mutableListOf<(SourceFile<L>) -> Unit>()
     private var alreadyRead = false
 
+    /**
+     * The buffer with the code of this file.
+     *
+     * Is `null` until the code is loaded from the [origin] file.
+     */
+    private var buffer: LineBuffer? = content?.let(::LineBuffer)
+
+    /**
+     * The lines changed since the code of this file was loaded.
+     *
+     * If the file was created [from the code][fromCode], all its lines are changed.
+     */
+    private val changes = ChangedLines().apply {
+        if (changed) {
+            recordAll()
+        }
+    }
+
+    /**
+     * The edits of the lines made since the code of this file was loaded,
+     * in the order of their application.
+     *
+     * Is `null` if the code was changed as a whole, e.g., [overwritten][overwrite] or
+     * modified via the [PSI][markPsiModified], so that the edits are not known, or if
+     * the file was created [from the code][fromCode].
+     */
+    private var lineEdits: MutableList<LineEdit>? = if (changed) null else mutableListOf()
+
+    /**
+     * The source code of this file.
+     *
+     * If the file was [read][read] from the file system, the code is loaded
+     * upon the first access to the property.
+     */
+    private val code: String
+        get() = loadedBuffer().text()
+
     /**
      * The full path to the file created in the [input root][SourceFileSet.inputRoot] of
      * the source file set to which this file belongs.
@@ -114,6 +160,13 @@ private constructor(
      */
     private var psiFile: PsiFile? = null
 
+    /**
+     * Tells if the [psiFile] was modified and the [buffer] does not have the changes yet.
+     *
+     * @see markPsiModified
+     */
+    private var psiModified = false
+
     /**
      * The type of the file to be used by [fileFactory] when parsing.
      */
@@ -131,8 +184,9 @@ private constructor(
      *
      * Modifications made to the returned instance are <em>NOT</em>
      * automatically reflected in the [code].
-     * If you intend to modify this source file via PSI, get the updated text
-     * via [PsiFile.getText] after modifications are applied, and then call [overwrite].
+     * If you intend to modify this source file via PSI, call [markPsiModified] after
+     * the modifications are applied. This way, the same PSI tree serves all
+     * the modifications of the file, and the code is updated only once it is read.
      */
     public fun psi(): PsiFile {
         if (psiFile != null) {
@@ -140,37 +194,29 @@ private constructor(
         }
         val fileName = outputPath.toFile().canonicalPath
         val timeStamp = Instant.now().toEpochMilli()
-        return fileFactory.createFileFromText(
-            fileName,
-            fileType,
-            code.convertLineSeparators(),
-            timeStamp,
-            true /* `eventSystemEnabled` */
-        ).also {
+        return RenderingLock.exclusively {
+            fileFactory.createFileFromText(
+                fileName,
+                fileType,
+                code.convertLineSeparators(),
+                timeStamp,
+                true /* `eventSystemEnabled` */
+            )
+        }.also {
             psiFile = it
         }
     }
 
-    public companion object : Cache<Path, SourceFile<*>>() {
-
-        /**
-         * Creates an instance of `SourceFile` for the given absolute path and a pair
-         * of the relative path and [Charset] of the file passed in [param].
-         */
-        override fun create(key: Path, param: Any?): SourceFile<*> {
-            val absolutePath = key
-            @Suppress("UNCHECKED_CAST")
-            val pair = param as Pair<Path, Charset>
-            val relativePath = pair.first
-            val charset = pair.second
-
-            val lang = Language.of(absolutePath)
-            val code = absolutePath.readText(charset)
-            return create(lang, relativePath, code)
-        }
+    public companion object {
 
         /**
          * Reads the file from the given file system location.
+         *
+         * The code of the file is not loaded until it is accessed.
+         *
+         * Each call creates a new instance, so that the source sets of different
+         * pipelines running in the same process never share the files, even if
+         * the files are read from the same directory.
          */
         internal fun read(
             sourceRoot: Path,
@@ -178,9 +224,24 @@ private constructor(
             charset: Charset = Charsets.UTF_8
         ): SourceFile<*> {
             val absolute = sourceRoot / relativePath
-            return get(absolute, relativePath to charset)
+            return SourceFile<Language>(
+                Language.of(absolute),
+                relativePath,
+                content = null,
+                origin = absolute,
+                originCharset = charset
+            )
         }
 
+        /**
+         * Does nothing.
+         *
+         * The files are no longer cached, as each source set [reads][read]
+         * its own instances.
+         */
+        @Deprecated("The source files are no longer cached.")
+        public fun clearCache(): Unit = Unit
+
         /**
          * Creates an instance of [SourceFile] with for the given language, path, and the code.
          *
@@ -287,6 +348,26 @@ private constructor(
         sources.delete(relativePath)
     }
 
+    /**
+     * Tells that the [PSI][psi] of this file was modified.
+     *
+     * The modified PSI is kept, so that the following modifications do not parse
+     * the code again. The [code] of this file is updated from the PSI when it is
+     * read next time, e.g., by a renderer which does not use PSI, or when the file
+     * is written.
+     *
+     * @throws IllegalStateException if the PSI of this file was not obtained.
+     */
+    @Internal
+    public fun markPsiModified() {
+        check(psiFile != null) {
+            "The PSI of the file `$relativePath` was not obtained or is already discarded."
+        }
+        this.psiModified = true
+        this.changed = true
+        this.lineEdits = null
+    }
+
     /**
      * Changes the contents of this file to the provided [newCode].
      *
@@ -295,16 +376,151 @@ private constructor(
      * Prefer using [at(InsertionPoint)][at] when possible.
      */
     public fun overwrite(newCode: String) {
-        this.code = newCode
+        replaceBuffer(LineBuffer(newCode))
+        markEdited()
+        lineEdits = null
+    }
+
+    /**
+     * Replaces the [count] lines of the code of this file starting at
+     * the [start] line with the [newLines].
+     *
+     * The lines are numbered from zero. The replaced range is recorded as
+     * the [changed lines][changedLines] directly, without comparing the code
+     * before and after the change.
+     */
+    internal fun replaceLines(start: Int, count: Int, newLines: List<String>) {
+        loadedBuffer().replace(start, count, newLines)
+        changes.replace(start, count, newLines.size)
+        lineEdits?.add(LineEdit(start, count, newLines.size))
+        markEdited()
+    }
+
+    /**
+     * Replaces all the lines of the code of this file with the [newLines] obtained
+     * from the current lines by the given [edits].
+     *
+     * The edits are listed in the order of their application, each numbering
+     * the lines resulting from the previous ones. The edits are recorded as
+     * the [changed lines][changedLines] without comparing the code.
+     */
+    internal fun rewriteLines(newLines: List<String>, edits: Iterable<LineEdit>) {
+        loadedBuffer()
+        this.buffer = LineBuffer.ofLines(newLines)
+        edits.forEach {
+            changes.replace(it.start, it.removed, it.added)
+            lineEdits?.add(it)
+        }
+        markEdited()
+    }
+
+    private fun markEdited() {
         this.changed = true
         this.psiFile = null
+        this.psiModified = false
     }
 
     /**
-     * Overwrites the code in this file line by line.
+     * Replaces the [buffer] with the given one, recording the changed lines.
+     *
+     * If the code was not loaded yet, all the lines are considered changed.
+     */
+    private fun replaceBuffer(newBuffer: LineBuffer) {
+        val oldBuffer = buffer
+        if (oldBuffer == null) {
+            changes.recordAll()
+        } else if (!changes.isWhole) {
+            changes.record(oldBuffer.lines(), newBuffer.lines())
+        }
+        this.buffer = newBuffer
+    }
+
+    /**
+     * Obtains the ranges of the lines changed since the code of this file was loaded.
+     *
+     * The changes made by inserting code, by overwriting the code, and via
+     * the [PSI][markPsiModified] of the file are taken into account.
+     * The lines are numbered from zero in the current code of the file.
+     * If the file was created [from the code][fromCode], all its lines are changed.
+     *
+     * The code of an unchanged file is not loaded by this method, so that
+     * the file may still be copied as is when written.
+     *
+     * @return the ranges sorted by their starts, or an empty list if
+     *   the code was not changed.
+     */
+    @Internal
+    public fun changedLines(): List<IntRange> {
+        if (!changed) {
+            return emptyList()
+        }
+        val lineCount = loadedBuffer().lines().size
+        return changes.ranges(lineCount)
+    }
+
+    /**
+     * Tells if the code of this file was modified after it was loaded, or
+     * if the file was created [from the code][fromCode].
+     */
+    @Internal
+    public fun isChanged(): Boolean = changed
+
+    /**
+     * Obtains the lines of the code of this file as it was loaded from the file system.
+     *
+     * The lines are read from the [origin] file again, regardless of
+     * the modifications made to the code of this file.
+     *
+     * @return the original lines, or `null` if the file was created [from the code][fromCode].
+     */
+    @Internal
+    public fun originalLines(): List<String>? =
+        origin?.let { LineBuffer(it.readText(originCharset)).lines().toList() }
+
+    /**
+     * Obtains the blocks of lines added to the code of this file since it was loaded.
+     *
+     * The blocks are obtained from the recorded edits of the lines rather than by
+     * comparing the code, so that an added line equal to a neighbouring line of
+     * the loaded code is never taken for the latter.
+     *
+     * @return the added blocks in the order of their position in the code, or `null`
+     *   if the lines of the loaded code were changed or removed, or the edits of
+     *   the code are not known, e.g., after the code was [overwritten][overwrite].
      */
-    internal fun updateLines(newCode: List<String>) {
-        overwrite(newCode.joinToString(lineSeparator()))
+    @Internal
+    public fun addedLines(): List<AddedLines>? {
+        val edits = lineEdits ?: return null
+        if (edits.isEmpty()) {
+            return emptyList()
+        }
+        val lines = loadedBuffer().lines()
+        val loadedCount = lines.size - edits.sumOf { it.added - it.removed }
+        // The index of the loaded line for each current line, or `ADDED_LINE`.
+        val origins = ArrayList<Int>(lines.size).apply { addAll(0 until loadedCount) }
+        edits.forEach { edit ->
+            val removed = origins.subList(edit.start, edit.start + edit.removed)
+            if (removed.any { it != ADDED_LINE }) {
+                return null
+            }
+            removed.clear()
+            origins.addAll(edit.start, List(edit.added) { ADDED_LINE })
+        }
+        val blocks = mutableListOf<AddedLines>()
+        var index = 0
+        while (index < origins.size) {
+            if (origins[index] != ADDED_LINE) {
+                index++
+                continue
+            }
+            val start = index
+            while (index < origins.size && origins[index] == ADDED_LINE) {
+                index++
+            }
+            val after = if (start == 0) -1 else origins[start - 1]
+            blocks.add(AddedLines(after, lines.subList(start, index).toList()))
+        }
+        return blocks
     }
 
     /**
@@ -336,12 +552,94 @@ private constructor(
         charset: Charset = Charsets.UTF_8,
         forceWrite: Boolean = false
     ) {
-        if (changed || forceWrite) {
+        if (needsWriting(forceWrite)) {
             val targetPath = baseDir / relativePath
             targetPath.toFile()
                 .parentFile
                 .mkdirs()
-            targetPath.writeText(code, charset, WRITE, TRUNCATE_EXISTING, CREATE)
+            writeTo(targetPath, charset)
+        }
+    }
+
+    /**
+     * Tells if this file should be written to the file system.
+     *
+     * @param forceWrite If `true`, the file must be written even if it was not changed.
+     * @see write
+     */
+    internal fun needsWriting(forceWrite: Boolean): Boolean = changed || forceWrite
+
+    /**
+     * Writes the source code into the given file, replacing its content.
+     *
+     * The code is encoded into the file channel through a buffer of a fixed size.
+     * Neither the code joined into one string nor all its bytes are held in memory,
+     * unless the code was already joined, e.g., because it was read by a renderer.
+     *
+     * The parent directory of the [target] file must exist.
+     *
+     * @param target The file to write.
+     * @param charset The charset for encoding the code.
+     * @param skipUnchanged If `true` and the [target] file already has exactly
+     *   the same content, the file is not written, so that its modification time
+     *   stays the same.
+     * @return `true` if the file was written, `false` if writing was skipped.
+     */
+    internal fun writeTo(
+        target: Path,
+        charset: Charset,
+        skipUnchanged: Boolean = false
+    ): Boolean {
+        if (buffer == null && origin != null && charset == originCharset) {
+            return copyOrigin(target, skipUnchanged)
+        }
+        val chunks = loadedBuffer().chunks()
+        val encoder = ChunkedEncoder(charset)
+        if (skipUnchanged && target.hasContent(chunks, encoder)) {
+            return false
+        }
+        FileChannel.open(target, WRITE, TRUNCATE_EXISTING, CREATE).use { channel ->
+            encoder.encode(chunks) { bytes ->
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes)
+                }
+                true
+            }
+        }
+        return true
+    }
+
+    /**
+     * Copies the [origin] file, which was never loaded, to the [target] file
+     * without decoding and encoding its content.
+     *
+     * @return `true` if the file was copied, `false` if copying was skipped.
+     */
+    private fun copyOrigin(target: Path, skipUnchanged: Boolean): Boolean {
+        val origin = origin!!
+        if (skipUnchanged && target.isRegularFile() && Files.mismatch(origin, target) == -1L) {
+            return false
+        }
+        Files.copy(origin, target, REPLACE_EXISTING)
+        return true
+    }
+
+    /**
+     * Obtains the [buffer] loading the code from the [origin] file, if not done yet.
+     *
+     * If the [PSI][psi] of the file was modified, the buffer is updated from it first.
+     */
+    private fun loadedBuffer(): LineBuffer {
+        if (psiModified) {
+            psiModified = false
+            replaceBuffer(LineBuffer(psiFile!!.text))
+        }
+        buffer?.let { return it }
+        val origin = checkNotNull(origin) {
+            "The file `$relativePath` has neither code nor the file to load it from."
+        }
+        return LineBuffer(origin.readText(originCharset)).also {
+            buffer = it
         }
     }
 
@@ -355,11 +653,13 @@ private constructor(
      * @param rootDir
      *         the root directory where the file lies; the [relativePath] is resolved
      *         upon this directory.
+     * @return `true` if the file existed and was deleted, `false` otherwise.
      * @see write
      */
-    internal fun rm(rootDir: Path) {
+    internal fun rm(rootDir: Path): Boolean {
         val targetPath = rootDir / relativePath
-        targetPath.toFile().deleteRecursively()
+        val file = targetPath.toFile()
+        return file.exists() && file.deleteRecursively()
     }
 
     /**
@@ -370,11 +670,22 @@ private constructor(
         return code
     }
 
+    /**
+     * Obtains the lines of the code of this file without copying them.
+     *
+     * The returned list reflects further edits of the lines.
+     * It must not be used after the code is [overwritten][overwrite].
+     */
+    internal fun codeLines(): List<String> {
+        initializeCode()
+        return loadedBuffer().lines()
+    }
+
     /**
      * Gets the content of this file as a list of lines.
      */
     public fun lines(): List<String> {
-        return code.lines()
+        return loadedBuffer().lines().toList()
     }
 
     /**
@@ -413,10 +724,63 @@ private constructor(
  */
 private fun SourceFile<*>.psiFileType(): FileType {
     // Ensure all the services are registered. This is fast to call repeatedly.
-    Environment.setUp()
+    PsiEnvironment.setUp()
     val registry = FileTypeRegistry.getInstance()
     check(registry != null) {
         "Unable to get `FileTypeRegistry` instance."
     }
     return registry.getFileTypeByFileName(relativePath.toString())
 }
+
+/**
+ * Tells if this file exists and contains exactly the given [chunks] of text
+ * encoded by the given [encoder].
+ *
+ * The encoding stops at the first difference.
+ */
+private fun Path.hasContent(chunks: Sequence<CharSequence>, encoder: ChunkedEncoder): Boolean {
+    if (!isRegularFile()) {
+        return false
+    }
+    FileChannel.open(this, READ).use { channel ->
+        var matched = 0L
+        var existing = ByteBuffer.allocate(COMPARED_CHUNK_SIZE)
+        val same = encoder.encode(chunks) { bytes ->
+            val count = bytes.remaining()
+            if (existing.capacity() < count) {
+                existing = ByteBuffer.allocate(count)
+            }
+            matched += count
+            channel.readFully(existing, count) == bytes
+        }
+        return same && matched == channel.size()
+    }
+}
+
+/**
+ * Reads the given number of bytes into the [buffer] from the current position of
+ * this channel, or less if the channel ends earlier.
+ *
+ * The capacity of the [buffer] must not be less than the [count].
+ *
+ * @return the [buffer] ready for reading the bytes.
+ */
+private fun FileChannel.readFully(buffer: ByteBuffer, count: Int): ByteBuffer {
+    buffer.clear()
+    buffer.limit(count)
+    while (buffer.hasRemaining() && read(buffer) >= 0) {
+        // Keep reading until the buffer is full or the channel ends.
+    }
+    return buffer.flip()
+}
+
+/**
+ * The size of the buffer for reading the existing content of a file for comparison.
+ */
+private const val COMPARED_CHUNK_SIZE = 8 * 1024
+
+/**
+ * Marks the lines added after the code of a file was loaded when
+ * [telling the added lines][SourceFile.addedLines].
+ */
+private const val ADDED_LINE = -1
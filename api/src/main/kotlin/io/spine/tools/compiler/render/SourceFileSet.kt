@@ -29,13 +29,12 @@ package io.spine.tools.compiler.render
 import com.google.common.collect.ImmutableSet.toImmutableSet
 import com.intellij.openapi.project.Project
 import io.spine.annotation.Internal
-import io.spine.collect.theOnly
 import io.spine.tools.compiler.ast.ProtoDeclarationName
 import io.spine.tools.compiler.render.SourceFileSet.Companion.create
 import io.spine.server.query.Querying
 import io.spine.string.ti
 import io.spine.tools.code.Language
-import io.spine.tools.psi.java.Environment
+import io.spine.tools.compiler.util.PathSuffixIndex
 import java.nio.charset.Charset
 import java.nio.file.Files.walk
 import java.nio.file.Path
@@ -43,8 +42,10 @@ import java.util.*
 import kotlin.DeprecationLevel.ERROR
 import kotlin.io.path.Path
 import kotlin.io.path.absolutePathString
+import kotlin.io.path.deleteIfExists
 import kotlin.io.path.exists
 import kotlin.io.path.isRegularFile
+import kotlin.io.path.listDirectoryEntries
 import kotlin.text.Charsets.UTF_8
 
 /**
@@ -94,7 +95,22 @@ internal constructor(
 ) : Iterable<SourceFile<*>> {
 
     private val files: MutableMap<Path, SourceFile<*>>
+
+    /**
+     * The index of the [files] by their relative paths.
+     *
+     * Must be updated along with the [files].
+     */
+    private val index = PathSuffixIndex<SourceFile<*>>()
     private val deletedFiles = mutableSetOf<SourceFile<*>>()
+
+    /**
+     * The relative paths of the files in the [outputRoot] written by a previous run
+     * which must survive [writing][write] this set.
+     *
+     * @see preserveOutput
+     */
+    private val preserved = mutableSetOf<Path>()
     private val preReadActions = mutableListOf<(SourceFile<*>) -> Unit>()
     internal lateinit var querying: Querying
 
@@ -102,8 +118,7 @@ internal constructor(
      * Obtains the project to which this source file set belongs.
      */
     public val project: Project by lazy {
-        Environment.setUp()
-        Environment.project
+        PsiEnvironment.project
     }
 
     init {
@@ -112,7 +127,10 @@ internal constructor(
         }
         val map = HashMap<Path, SourceFile<*>>(files.size)
         this.files = files.associateByTo(map) { it.relativePath }
-        this.files.values.forEach { it.attachTo(this) }
+        this.files.values.forEach {
+            it.attachTo(this)
+            index.put(it.relativePath, it)
+        }
     }
 
     @Internal
@@ -130,6 +148,10 @@ internal constructor(
          * Collects a source set from the given [input][inputRoot], assigning
          * the [output][outputRoot].
          *
+         * Only the paths of the files are collected. The code of a file is read
+         * when it is first accessed. The files whose code was never accessed are
+         * copied to the `outputRoot` as is when the source set is [written][write].
+         *
          * @param inputRoot
          *         the directory from which to read the source files.
          * @param outputRoot
@@ -137,11 +159,21 @@ internal constructor(
          *         If same as the [sourceRoot], all files **will be overwritten**.
          *         If different from the `sourceRoot`, the files in `sourceRoot`
          *         will not be changed.
+         * @param keepExistingOutput
+         *         if `true`, the [outputRoot] may contain files written by
+         *         a previous run. Such files are either kept, if the source set
+         *         [writes][write] the same content into them, or deleted.
+         *         If `false`, which is the default, the `outputRoot` must be empty.
          */
-        public fun create(inputRoot: Path, outputRoot: Path): SourceFileSet {
+        @JvmOverloads
+        public fun create(
+            inputRoot: Path,
+            outputRoot: Path,
+            keepExistingOutput: Boolean = false
+        ): SourceFileSet {
             val source = inputRoot.canonical()
             val target = outputRoot.canonical()
-            if (source != target) {
+            if (source != target && !keepExistingOutput) {
                 target.check()
             }
             val files = walk(source)
@@ -197,14 +229,19 @@ internal constructor(
      * The [path] may be absolute or relative to the source root.
      *
      * @return the source file or `null` if the file is missing from this set.
+     * @throws IllegalStateException if more than one file of this set matches the [path].
      */
     public fun find(path: Path): SourceFile<*>? {
         val file = files[path]
         if (file != null) {
             return file
         }
-        val filtered = files.filterKeys { path.endsWith(it) }
-        return if (filtered.isEmpty()) null else filtered.entries.theOnly().value
+        val found = index.suffixesOf(path)
+        check(found.size <= 1) {
+            "The path `$path` is ambiguous in the source set." +
+                    " Matching files: ${found.joinToString { "`${it.relativePath}`" }}."
+        }
+        return found.firstOrNull()
     }
 
     /**
@@ -231,6 +268,7 @@ internal constructor(
     public fun createFile(path: Path, code: String): SourceFile<*> {
         val file = SourceFile.fromCode(path, code)
         files[file.relativePath] = file
+        index.put(file.relativePath, file)
         file.attachTo(this)
         preReadActions.forEach {
             file.beforeRead(it)
@@ -247,23 +285,109 @@ internal constructor(
     internal fun delete(file: Path) {
         val sourceFile = file(file)
         files.remove(sourceFile.relativePath)
+        index.remove(sourceFile.relativePath)
         deletedFiles.add(sourceFile)
     }
 
+    /**
+     * Excludes the files with the given relative [paths] from this source set
+     * and preserves the files at these paths in the [outputRoot].
+     *
+     * The excluded files are not passed to renderers and are not written.
+     * The preserved files are not deleted when the set is [written][write] with
+     * `skipUnchanged`, even if they do not belong to the set. This way, the output
+     * written by a previous run for the code which is not generated again
+     * survives the run.
+     *
+     * A file [created][createFile] at a preserved path afterwards is written as usual.
+     */
+    @Internal
+    public fun preserveOutput(paths: Collection<Path>) {
+        paths.forEach { path ->
+            files.remove(path)?.let {
+                index.remove(path)
+            }
+            preserved.add(path)
+        }
+    }
+
     /**
      * Writes this source set to the file system.
      *
      * The sources existing on the file system at the moment are deleted,
      * along with the whole directory structure, and the new files are written.
+     *
+     * The files are written concurrently. If some of the files could not be written,
+     * the others are still written, and then [SourceWriteException] is thrown.
+     *
+     * If [skipUnchanged] is `true`, the files that already exist in the [outputRoot]
+     * with the same content are not written, so that their modification time is preserved.
+     * This allows up-to-date checks of the tools consuming the generated code to pass.
+     * In this mode, the files in the `outputRoot` that do not belong to
+     * this source set are deleted, unless they are [preserved][preserveOutput].
+     *
+     * @param charset The charset to use for writing the files.
+     * @param skipUnchanged If `true`, the unchanged files are not written.
+     * @return the numbers of written, skipped, and deleted files.
+     * @throws SourceWriteException if one or more files could not be written.
      */
-    public fun write(charset: Charset = UTF_8) {
-        deletedFiles.forEach {
+    @JvmOverloads
+    public fun write(charset: Charset = UTF_8, skipUnchanged: Boolean = false): WriteReport {
+        val deleted = deletedFiles.count {
             it.rm(rootDir = outputRoot)
         }
         outputRoot.toFile().mkdirs()
+        val report = SourceFileWriter(outputRoot, charset, skipUnchanged).write(outputFiles())
+        val stale = if (skipUnchanged && inputRoot != outputRoot) deleteStaleFiles() else 0
+        return report.copy(deleted = deleted + stale)
+    }
+
+    /**
+     * Obtains the files which this source set would [write] to the [outputRoot].
+     *
+     * Unlike [write], this method does not touch the file system. It allows passing
+     * the generated code elsewhere, e.g., back to `protoc` as a part of
+     * a `CodeGeneratorResponse`.
+     */
+    public fun outputFiles(): List<SourceFile<*>> {
         val forceWriteFiles = inputRoot != outputRoot
-        files.values.forEach {
-            it.write(outputRoot, charset, forceWriteFiles)
+        return files.values.filter { it.needsWriting(forceWriteFiles) }
+    }
+
+    /**
+     * Deletes the files in the [outputRoot] which do not belong to this source set
+     * and are not [preserved][preserveOutput].
+     *
+     * The directories left empty after the deletion are deleted as well.
+     *
+     * @return the number of deleted files.
+     */
+    private fun deleteStaleFiles(): Int {
+        val stale = walk(outputRoot).use { paths ->
+            paths.filter { it.isRegularFile() }
+                .filter {
+                    val path = outputRoot.relativize(it)
+                    path !in files && path !in preserved
+                }
+                .toList()
+        }
+        stale.forEach { it.deleteIfExists() }
+        stale.mapTo(mutableSetOf()) { it.parent }
+            .forEach { deleteIfEmpty(it) }
+        return stale.size
+    }
+
+    /**
+     * Deletes the given [directory] and then its parents while they are empty.
+     *
+     * The [outputRoot] itself is never deleted.
+     */
+    private fun deleteIfEmpty(directory: Path) {
+        var dir = directory
+        while (dir != outputRoot && dir.startsWith(outputRoot)
+            && dir.exists() && dir.listDirectoryEntries().isEmpty()) {
+            dir.deleteIfExists()
+            dir = dir.parent
         }
     }
 
@@ -286,9 +410,13 @@ internal constructor(
      */
     internal fun mergeBack(other: SourceFileSet) {
         files.putAll(other.files)
+        other.files.forEach { (path, file) ->
+            index.put(path, file)
+        }
         deletedFiles.addAll(other.deletedFiles)
         other.deletedFiles.forEach {
             files.remove(it.relativePath)
+            index.remove(it.relativePath)
         }
     }
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import io.spine.tools.compiler.util.WorkerPool
+import java.nio.charset.Charset
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.Callable
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.io.path.div
+
+/**
+ * Writes files of a [SourceFileSet] to the file system.
+ *
+ * The writer creates each distinct directory only once, and then writes
+ * the files concurrently in the [WorkerPool].
+ *
+ * Errors occurred when writing individual files do not stop writing of other files.
+ * They are collected and reported at the end via [SourceWriteException].
+ *
+ * @param outputRoot The directory against which relative paths of the files are resolved.
+ * @param charset The charset to use for encoding the code of the files.
+ * @param skipUnchanged If `true`, the files which already exist with the same content
+ *   are not written.
+ */
+internal class SourceFileWriter(
+    private val outputRoot: Path,
+    private val charset: Charset,
+    private val skipUnchanged: Boolean = false
+) {
+
+    /**
+     * Writes the given files.
+     *
+     * @return the report with the numbers of written and skipped files.
+     * @throws SourceWriteException if one or more files could not be written.
+     */
+    fun write(files: Collection<SourceFile<*>>): WriteReport {
+        if (files.isEmpty()) {
+            return WriteReport.EMPTY
+        }
+        val progress = Progress()
+        createDirectories(files, progress)
+        if (files.size < PARALLEL_THRESHOLD || WorkerPool.parallelism <= 1) {
+            files.forEach { writeFile(it, progress) }
+        } else {
+            WorkerPool.invokeAll(files.map { Callable { writeFile(it, progress) } })
+        }
+        if (progress.failures.isNotEmpty()) {
+            throw SourceWriteException(progress.failures.toSortedMap())
+        }
+        return WriteReport(
+            written = progress.written.get(),
+            skipped = progress.skipped.get(),
+            deleted = 0
+        )
+    }
+
+    @Suppress("TooGenericExceptionCaught") // ... to report all the failures at once.
+    private fun createDirectories(files: Collection<SourceFile<*>>, progress: Progress) {
+        val directories = files.mapNotNullTo(HashSet()) { (outputRoot / it.relativePath).parent }
+        directories.forEach {
+            try {
+                Files.createDirectories(it)
+            } catch (e: Exception) {
+                progress.failures[it] = e
+            }
+        }
+    }
+
+    @Suppress("TooGenericExceptionCaught") // ... to report all the failures at once.
+    private fun writeFile(file: SourceFile<*>, progress: Progress) {
+        val target = outputRoot / file.relativePath
+        try {
+            val written = file.writeTo(target, charset, skipUnchanged)
+            val counter = if (written) progress.written else progress.skipped
+            counter.incrementAndGet()
+        } catch (e: Exception) {
+            progress.failures[target] = e
+        }
+    }
+
+    /**
+     * The outcome of a [write] operation updated concurrently.
+     */
+    private class Progress {
+        val written = AtomicInteger()
+        val skipped = AtomicInteger()
+        val failures = ConcurrentHashMap<Path, Throwable>()
+    }
+
+    private companion object {
+
+        /**
+         * The number of files starting from which the files are written concurrently.
+         *
+         * Writing a few files does not pay off the cost of starting threads.
+         */
+        const val PARALLEL_THRESHOLD = 16
+    }
+}
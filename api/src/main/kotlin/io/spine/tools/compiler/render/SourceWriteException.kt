@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import java.nio.file.Path
+
+/**
+ * An exception thrown when one or more files of a [SourceFileSet] could not be written.
+ *
+ * The exceptions thrown for individual files are [suppressed][getSuppressed] by this one.
+ *
+ * @property failures The paths of the files that could not be written mapped to
+ *   the exceptions thrown when writing them.
+ */
+public class SourceWriteException(
+    public val failures: Map<Path, Throwable>
+) : RuntimeException(messageFor(failures)) {
+
+    init {
+        failures.values.forEach(::addSuppressed)
+    }
+
+    private companion object {
+        private const val serialVersionUID: Long = 0L
+
+        /**
+         * The maximum number of paths listed in the message of the exception.
+         */
+        private const val MAX_LISTED = 10
+
+        private fun messageFor(failures: Map<Path, Throwable>): String {
+            val listed = failures.entries.take(MAX_LISTED).joinToString(separator = "") {
+                "${System.lineSeparator()}  - `${it.key}`: ${it.value.message}"
+            }
+            val more = failures.size - MAX_LISTED
+            val tail = if (more > 0) "${System.lineSeparator()}  ... and $more more." else ""
+            return "Unable to write ${failures.size} file(s):$listed$tail"
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+/**
+ * The outcome of [writing][SourceFileSet.write] a source file set to the file system.
+ *
+ * @property written The number of files written to the file system.
+ * @property skipped The number of files which were not written because the file system
+ *   already had the files with the same content.
+ * @property deleted The number of files deleted from the file system.
+ */
+public data class WriteReport(
+    public val written: Int,
+    public val skipped: Int,
+    public val deleted: Int
+) {
+
+    /**
+     * Combines this report with the [other] one.
+     */
+    public operator fun plus(other: WriteReport): WriteReport = WriteReport(
+        written + other.written,
+        skipped + other.skipped,
+        deleted + other.deleted
+    )
+
+    override fun toString(): String =
+        "written: $written, skipped: $skipped, deleted: $deleted"
+
+    public companion object {
+
+        /**
+         * The report with all the counters equal to zero.
+         */
+        @JvmField
+        public val EMPTY: WriteReport = WriteReport(0, 0, 0)
+    }
+}
@@ -27,12 +27,12 @@
 package io.spine.tools.compiler.settings
 
 import io.spine.tools.compiler.ast.toPath
+import io.spine.tools.compiler.context.stateById
 import io.spine.tools.compiler.settings.Settings.KindCase.EMPTY
 import io.spine.tools.compiler.settings.Settings.KindCase.FILE
 import io.spine.tools.compiler.settings.Settings.KindCase.KIND_NOT_SET
 import io.spine.format.parse
 import io.spine.server.query.Querying
-import io.spine.server.query.select
 
 /**
  * A Compiler plugin component that accesses its settings via the [Settings] view.
@@ -58,7 +58,7 @@ public interface LoadsSettings : Querying, WithSettings {
     }
 
     private fun findSettings(): Settings? {
-        val settings = select<Settings>().findById(consumerId)
+        val settings = stateById(Settings::class.java, consumerId)
         return settings
     }
 }
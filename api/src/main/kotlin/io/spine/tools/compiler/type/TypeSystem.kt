@@ -36,7 +36,6 @@ import io.spine.tools.compiler.ast.EnumType
 import io.spine.tools.compiler.ast.Field
 import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.ast.ProtoDeclaration
-import io.spine.tools.compiler.ast.ProtoDeclarationName
 import io.spine.tools.compiler.ast.ProtoFileHeader
 import io.spine.tools.compiler.ast.ProtobufSourceFile
 import io.spine.tools.compiler.ast.Service
@@ -62,17 +61,35 @@ public class TypeSystem(
     public val compiledProtoFiles: ProtoFileList,
     private val definitions: Set<ProtobufSourceFile>
 ) {
+    /**
+     * Message types and headers of their files, keyed by type URLs.
+     */
+    private val messages: Map<String, Pair<MessageType, ProtoFileHeader>> =
+        index { it.typeMap }
+
+    /**
+     * Enum types and headers of their files, keyed by type URLs.
+     */
+    private val enums: Map<String, Pair<EnumType, ProtoFileHeader>> =
+        index { it.enumTypeMap }
+
+    /**
+     * Services and headers of their files, keyed by type URLs.
+     */
+    private val services: Map<String, Pair<Service, ProtoFileHeader>> =
+        index { it.serviceMap }
+
     /**
      * Looks up a message type by its name.
      */
     public fun findMessage(name: TypeName): Pair<MessageType, ProtoFileHeader>? =
-        find(name) { it.typeMap }
+        messages[name.typeUrl]
 
     /**
      * Looks up an enum type by its name.
      */
     public fun findEnum(name: TypeName): Pair<EnumType, ProtoFileHeader>? =
-        find(name) { it.enumTypeMap }
+        enums[name.typeUrl]
 
     /**
      * Looks up a message or enum type by its name.
@@ -84,19 +101,25 @@ public class TypeSystem(
      * Looks up a service by its name.
      */
     public fun findService(name: ServiceName): Pair<Service, ProtoFileHeader>? =
-        find(name) { it.serviceMap }
+        services[name.typeUrl]
 
-    private fun <T> find(
-        name: ProtoDeclarationName,
+    /**
+     * Builds an index of declarations selected from the [definitions] by their type URLs.
+     *
+     * If the same type URL is declared in more than one file, the first declaration wins.
+     */
+    private fun <T> index(
         mapSelector: (ProtobufSourceFile) -> Map<String, T>
-    ): Pair<T, ProtoFileHeader>? {
-        val typeUrl = name.typeUrl
-        val file = definitions.find {
-            mapSelector(it).containsKey(typeUrl)
+    ): Map<String, Pair<T, ProtoFileHeader>> {
+        val capacity = definitions.sumOf { mapSelector(it).size }
+        val result = HashMap<String, Pair<T, ProtoFileHeader>>(capacity * 2)
+        definitions.forEach { file ->
+            val header = file.header
+            mapSelector(file).forEach { (typeUrl, declaration) ->
+                result.putIfAbsent(typeUrl, declaration to header)
+            }
         }
-        val types = file?.let(mapSelector)
-        val type = types?.get(typeUrl)
-        return if (type != null) type to file.header else null
+        return result
     }
 }
 
@@ -27,21 +27,46 @@
 package io.spine.tools.compiler.util
 
 import com.github.benmanes.caffeine.cache.Caffeine
-import kotlinx.coroutines.runBlocking
+import com.github.benmanes.caffeine.cache.Cache as CaffeineCache
+import java.time.Duration
 
 /**
  * Abstract base for classes caching instances of [V] created for keys of the type [K].
  *
+ * The cache is safe for concurrent use. Values are computed atomically per key,
+ * so concurrent requests for different keys do not block each other, while
+ * concurrent requests for the same key wait for a single call to [create].
+ *
+ * Implementations of [create] must not call [get] of the same cache recursively.
+ *
  * @param K The type in response to which cached values are created.
  * @param V The type of values stored in the cache.
  *
  * @param initialCapacity The initial capacity of the cache.
+ * @param maximumSize The maximum number of entries kept in the cache.
+ *   If [UNBOUNDED], which is the default, entries are never evicted.
+ * @param recordStats If `true`, the cache collects [statistics][stats] of
+ *   its hits, misses and loads. The default is `false`.
  */
-public abstract class Cache<K: Any, V: Any>(private val initialCapacity: Int = 100) {
+public abstract class Cache<K: Any, V: Any>(
+    initialCapacity: Int = 100,
+    maximumSize: Long = UNBOUNDED,
+    recordStats: Boolean = false
+) {
 
-    private val syncCache = Caffeine.newBuilder()
-        .initialCapacity(this@Cache.initialCapacity)
-        .build<K, V>()
+    private val cache: CaffeineCache<K, V>
+
+    init {
+        val builder = Caffeine.newBuilder()
+            .initialCapacity(initialCapacity)
+        if (maximumSize != UNBOUNDED) {
+            builder.maximumSize(maximumSize)
+        }
+        if (recordStats) {
+            builder.recordStats()
+        }
+        cache = builder.build()
+    }
 
     /**
      * Creates an instance of the cached value for the given key.
@@ -59,15 +84,15 @@ public abstract class Cache<K: Any, V: Any>(private val initialCapacity: Int = 1
      * @param param Additional parameter for creating the value.
      * @see create
      */
-    protected fun get(key: K, param: Any? = null): V {
-        return synchronized(this) {
-            runBlocking {
-                syncCache.get(key) {
-                    create(key, param)
-                }
-            }
+    protected fun get(key: K, param: Any? = null): V =
+        cache.get(key) {
+            create(key, param)
         }
-    }
+
+    /**
+     * Obtains the cached value for the given key, if any, without creating it.
+     */
+    protected fun getIfPresent(key: K): V? = cache.getIfPresent(key)
 
     /**
      * Clears the cache.
@@ -75,8 +100,68 @@ public abstract class Cache<K: Any, V: Any>(private val initialCapacity: Int = 1
      * Clearing the cache may be useful in between tests to avoid stale instances.
      */
     public fun clearCache() {
-        synchronized(this) {
-            syncCache.invalidateAll()
-        }
+        cache.invalidateAll()
+    }
+
+    /**
+     * Obtains the statistics of this cache collected since it was created.
+     *
+     * If the cache was created with `recordStats = false`, all the counters are zero.
+     */
+    public fun stats(): Stats {
+        val stats = cache.stats()
+        return Stats(
+            hitCount = stats.hitCount(),
+            missCount = stats.missCount(),
+            loadCount = stats.loadCount(),
+            evictionCount = stats.evictionCount(),
+            totalLoadTime = Duration.ofNanos(stats.totalLoadTime())
+        )
+    }
+
+    /**
+     * A snapshot of the performance statistics of a [Cache].
+     *
+     * @property hitCount The number of times a cached value was returned.
+     * @property missCount The number of times a value had to be [created][create].
+     * @property loadCount The number of completed calls to [create].
+     * @property evictionCount The number of entries evicted because of
+     *   the maximum size limit.
+     * @property totalLoadTime The total time spent in [create].
+     */
+    public data class Stats(
+        public val hitCount: Long,
+        public val missCount: Long,
+        public val loadCount: Long,
+        public val evictionCount: Long,
+        public val totalLoadTime: Duration
+    ) {
+
+        /**
+         * The ratio of hits to all the requests, or `1.0` if there were no requests.
+         */
+        public val hitRate: Double
+            get() {
+                val requests = hitCount + missCount
+                return if (requests == 0L) 1.0 else hitCount.toDouble() / requests
+            }
+    }
+
+    public companion object {
+
+        /**
+         * The value of `maximumSize` telling that the cache does not evict entries.
+         */
+        public const val UNBOUNDED: Long = -1L
     }
 }
+
+/**
+ * The maximum number of files for which the data parsed from their descriptors,
+ * such as documentation or coordinates, is cached outside of
+ * a [DescriptorIndex][io.spine.tools.compiler.ast.DescriptorIndex].
+ *
+ * Such caches are shared by all the pipelines of a process, e.g., a Gradle daemon,
+ * and must not grow with each build.
+ */
+internal const val MAX_CACHED_FILES: Long = 1_000L
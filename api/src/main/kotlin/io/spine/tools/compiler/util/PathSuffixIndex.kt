@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.util
+
+import java.nio.file.Path
+
+/**
+ * An index of values registered under file system paths which answers
+ * suffix queries in time proportional to the number of path segments.
+ *
+ * The exception is [endingWith], which also takes time to collect and sort
+ * the matching values. Use [firstEndingWith] when only one value is needed.
+ *
+ * The index is a trie of path segments taken in the reverse order.
+ * For example, the path `io/spine/Foo.java` is stored as
+ * `Foo.java` → `spine` → `io`.
+ *
+ * Paths are compared segment by segment, so `bar/Foo.java` is a suffix of
+ * `io/bar/Foo.java`, but not of `io/foobar/Foo.java`.
+ *
+ * The index is not thread-safe.
+ *
+ * @param V The type of the indexed values.
+ */
+internal class PathSuffixIndex<V : Any> {
+
+    private val root = Node<V>()
+
+    /**
+     * The counter used for ordering values by the time they were registered.
+     */
+    private var counter = 0L
+
+    /**
+     * Registers the given [value] under the given [path].
+     *
+     * If there is already a value under this path, it is replaced keeping
+     * the registration order of the path.
+     */
+    fun put(path: Path, value: V) {
+        val segments = path.reversedSegments()
+        val node = segments.fold(root) { node, segment ->
+            node.children.getOrPut(segment) { Node() }
+        }
+        if (node.value == null) {
+            node.order = counter++
+            var current = root
+            current.register(node)
+            segments.forEach {
+                current = current.children[it]!!
+                current.register(node)
+            }
+        }
+        node.value = value
+    }
+
+    /**
+     * Removes the value registered under the given [path].
+     *
+     * @return `true` if the value was removed, `false` if there was no value under the path.
+     */
+    fun remove(path: Path): Boolean {
+        val segments = path.reversedSegments()
+        val trail = ArrayList<Node<V>>(segments.size + 1)
+        trail.add(root)
+        for (segment in segments) {
+            val next = trail.last().children[segment] ?: return false
+            trail.add(next)
+        }
+        val node = trail.last()
+        if (node.value == null) {
+            return false
+        }
+        node.value = null
+        trail.forEach { it.count-- }
+        for (i in trail.indices.reversed()) {
+            val current = trail[i]
+            // Prune the branches which no longer hold values.
+            if (i < segments.size && trail[i + 1].count == 0) {
+                current.children.remove(segments[i])
+            }
+            if (current.first === node) {
+                current.first = current.earliest()
+            }
+        }
+        return true
+    }
+
+    /**
+     * Obtains the values registered under paths that are suffixes of the given [path].
+     *
+     * For example, if the index has values for `Foo.java` and `spine/Foo.java`,
+     * both of them are returned for the path `/home/io/spine/Foo.java`.
+     *
+     * The values are returned starting from the one with the shortest path.
+     */
+    fun suffixesOf(path: Path): List<V> {
+        val result = mutableListOf<V>()
+        var node = root
+        for (segment in path.reversedSegments()) {
+            node = node.children[segment] ?: break
+            node.value?.let { result.add(it) }
+        }
+        return result
+    }
+
+    /**
+     * Obtains the values registered under paths that end with the given [suffix].
+     *
+     * The values are returned in the order of their registration.
+     */
+    fun endingWith(suffix: Path): List<V> {
+        val node = find(suffix) ?: return emptyList()
+        val collected = mutableListOf<Node<V>>()
+        node.collectTo(collected)
+        return collected.sortedBy { it.order }.map { it.value!! }
+    }
+
+    /**
+     * Obtains the value registered first under a path ending with the given [suffix].
+     *
+     * @return the found value, or `null` if no registered path ends with the [suffix].
+     */
+    fun firstEndingWith(suffix: Path): V? = find(suffix)?.first?.value
+
+    private fun find(suffix: Path): Node<V>? {
+        var node = root
+        for (segment in suffix.reversedSegments()) {
+            node = node.children[segment] ?: return null
+        }
+        return if (node.count == 0) null else node
+    }
+
+    /**
+     * A node of the trie.
+     *
+     * @property children The nodes of preceding path segments keyed by the segment names.
+     * @property value The value registered under the path ending at this node, if any.
+     * @property order The registration order of the [value].
+     * @property count The number of values in the subtree starting at this node,
+     *   including this node.
+     * @property first The node with the earliest registered value in the subtree
+     *   starting at this node, or `null` if the subtree has no values.
+     */
+    private class Node<V : Any> {
+        val children: MutableMap<String, Node<V>> = HashMap(4)
+        var value: V? = null
+        var order: Long = 0
+        var count: Int = 0
+        var first: Node<V>? = null
+
+        /**
+         * Accounts for the given node with a new value in the subtree of this node.
+         *
+         * The new value is registered later than all the values in the subtree.
+         */
+        fun register(node: Node<V>) {
+            count++
+            if (first == null) {
+                first = node
+            }
+        }
+
+        /**
+         * Finds the node with the earliest registered value among this node and
+         * the [first] nodes of its children.
+         */
+        fun earliest(): Node<V>? {
+            var result: Node<V>? = if (value != null) this else null
+            children.values.forEach { child ->
+                val candidate = child.first
+                if (candidate != null && (result == null || candidate.order < result!!.order)) {
+                    result = candidate
+                }
+            }
+            return result
+        }
+
+        fun collectTo(result: MutableList<Node<V>>) {
+            if (value != null) {
+                result.add(this)
+            }
+            children.values.forEach { it.collectTo(result) }
+        }
+    }
+}
+
+/**
+ * Obtains the names of this path in the reverse order, skipping the root component.
+ */
+private fun Path.reversedSegments(): List<String> {
+    val count = nameCount
+    return List(count) { getName(count - 1 - it).toString() }
+}
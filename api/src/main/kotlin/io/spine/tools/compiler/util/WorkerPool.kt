@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.util
+
+import io.spine.annotation.Internal
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+
+/**
+ * The pool of threads shared by the concurrent work of the Compiler,
+ * such as rendering source sets, formatting code, and writing files.
+ *
+ * The parallelism of the pool is bounded by the number of available processors.
+ * Tasks submitted from the threads of the pool, e.g., writing the files of
+ * a source set rendered in the pool, run in the same pool rather than
+ * in a nested one. While such a task waits for the tasks it submitted,
+ * its thread helps to perform them.
+ *
+ * The threads of the pool are daemon threads, so the pool is never shut down.
+ */
+@Internal
+public object WorkerPool {
+
+    /**
+     * The maximum number of tasks performed at the same time.
+     */
+    public val parallelism: Int = Runtime.getRuntime().availableProcessors()
+
+    private val pool: ForkJoinPool by lazy {
+        ForkJoinPool(parallelism)
+    }
+
+    /**
+     * Performs the given [tasks] in the pool and waits for all of them to complete.
+     *
+     * @return the results of the tasks in the order of the tasks.
+     * @throws Throwable the exception thrown by the first of the tasks that failed,
+     *   after all the tasks complete.
+     */
+    public fun <T> invokeAll(tasks: Collection<Callable<T>>): List<T> =
+        pool.invokeAll(tasks).map {
+            try {
+                it.get()
+            } catch (e: ExecutionException) {
+                throw e.cause ?: e
+            }
+        }
+}
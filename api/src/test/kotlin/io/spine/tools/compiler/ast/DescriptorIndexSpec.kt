@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.ast
+
+import com.google.protobuf.Timestamp
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`DescriptorIndex` should")
+internal class DescriptorIndexSpec {
+
+    private val file = Timestamp.getDescriptor().file
+    private val index = DescriptorIndex()
+
+    @Test
+    fun `provide the same documentation for the same file`() {
+        val documentation = index.within { Documentation.of(file) }
+        index.documentation(file) shouldBeSameInstanceAs documentation
+    }
+
+    @Test
+    fun `provide the same coordinates for the same file`() {
+        val coordinates = index.within { Coordinates.of(file) }
+        index.coordinates(file) shouldBeSameInstanceAs coordinates
+    }
+
+    @Test
+    fun `not share the entries with other indexes`() {
+        val other = DescriptorIndex()
+        other.documentation(file) shouldNotBeSameInstanceAs index.documentation(file)
+    }
+
+    @Test
+    fun `serve the lookups only within the index`() {
+        val documentation = index.documentation(file)
+        index.within {
+            DescriptorIndex().within {
+                Documentation.of(file) shouldNotBeSameInstanceAs documentation
+            }
+            Documentation.of(file) shouldBeSameInstanceAs documentation
+        }
+        Documentation.of(file) shouldNotBeSameInstanceAs documentation
+    }
+
+    @Test
+    fun `give the same results as the lookup by file proto`() {
+        val message = Timestamp.getDescriptor()
+        val proto = file.toProto()
+        index.documentation(file).forMessage(message) shouldBe
+                Documentation.of(proto).forMessage(message)
+        index.coordinates(file).forMessage(message) shouldBe
+                Coordinates.of(proto).forMessage(message)
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ChangedLines` should")
+internal class ChangedLinesSpec {
+
+    private val changes = ChangedLines()
+
+    @Test
+    fun `have no ranges if nothing changed`() {
+        changes.record(listOf("a", "b"), listOf("a", "b"))
+
+        changes.ranges(2).shouldBeEmpty()
+    }
+
+    @Test
+    fun `record inserted lines`() {
+        changes.record(listOf("a", "d"), listOf("a", "b", "c", "d"))
+
+        changes.ranges(4) shouldBe listOf(1 until 3)
+    }
+
+    @Test
+    fun `shift the ranges after the change`() {
+        changes.record(listOf("a", "b", "c", "d"), listOf("a", "b", "c", "X"))
+        changes.record(listOf("a", "b", "c", "X"), listOf("Y", "Z", "a", "b", "c", "X"))
+
+        changes.ranges(6) shouldBe listOf(0 until 2, 5 until 6)
+    }
+
+    @Test
+    fun `merge the overlapping ranges`() {
+        changes.record(listOf("a", "b", "c"), listOf("a", "X", "c"))
+        changes.record(listOf("a", "X", "c"), listOf("a", "X", "Y", "c"))
+
+        changes.ranges(4) shouldBe listOf(1 until 3)
+    }
+
+    @Test
+    fun `record replaced ranges without comparing lines`() {
+        changes.replace(start = 1, removed = 0, added = 2)
+        changes.replace(start = 5, removed = 1, added = 1)
+        changes.replace(start = 0, removed = 0, added = 1)
+
+        changes.ranges(7) shouldBe listOf(0 until 1, 2 until 4, 6 until 7)
+    }
+
+    @Test
+    fun `merge the adjacent replaced ranges`() {
+        changes.replace(start = 1, removed = 0, added = 1)
+        changes.replace(start = 2, removed = 1, added = 1)
+
+        changes.ranges(4) shouldBe listOf(1 until 3)
+    }
+
+    @Test
+    fun `consider all lines changed after recording all`() {
+        changes.record(listOf("a", "b"), listOf("a", "X"))
+        changes.recordAll()
+
+        changes.ranges(3) shouldBe listOf(0 until 3)
+    }
+}
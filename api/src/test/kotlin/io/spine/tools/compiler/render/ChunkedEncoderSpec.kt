@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import io.kotest.matchers.shouldBe
+import java.io.ByteArrayOutputStream
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ChunkedEncoder` should")
+internal class ChunkedEncoderSpec {
+
+    private val chunks = listOf("Привіт, ", "world", "! ", "😀")
+
+    @Test
+    fun `encode chunks larger than the buffer`() {
+        val encoder = ChunkedEncoder(Charsets.UTF_8, bufferSize = 4)
+        val output = ByteArrayOutputStream()
+
+        val completed = encoder.encode(chunks.asSequence()) { bytes ->
+            output.write(bytes.array(), bytes.position(), bytes.remaining())
+            true
+        }
+
+        completed shouldBe true
+        output.toByteArray() shouldBe chunks.joinToString("").toByteArray(Charsets.UTF_8)
+    }
+
+    @Test
+    fun `stop encoding when the sink asks to`() {
+        val encoder = ChunkedEncoder(Charsets.UTF_8, bufferSize = 4)
+        var calls = 0
+
+        val completed = encoder.encode(chunks.asSequence()) {
+            calls++
+            false
+        }
+
+        completed shouldBe false
+        calls shouldBe 1
+    }
+
+    @Test
+    fun `replace unmappable characters`() {
+        val encoder = ChunkedEncoder(Charsets.US_ASCII)
+        val output = ByteArrayOutputStream()
+
+        encoder.encode(sequenceOf("a", "ї")) { bytes ->
+            output.write(bytes.array(), bytes.position(), bytes.remaining())
+            true
+        }
+
+        output.toString(Charsets.US_ASCII) shouldBe "a?"
+    }
+}
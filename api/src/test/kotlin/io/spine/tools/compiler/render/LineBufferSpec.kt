@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import java.lang.System.lineSeparator
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`LineBuffer` should")
+internal class LineBufferSpec {
+
+    @Test
+    fun `return the original code until edited`() {
+        val code = "first\nsecond\n"
+        val buffer = LineBuffer(code)
+
+        buffer.lines() shouldBe listOf("first", "second", "")
+        buffer.text() shouldBeSameInstanceAs code
+    }
+
+    @Test
+    fun `join the lines after an edit`() {
+        val buffer = LineBuffer("a\nc")
+        buffer.edit { it.add(1, "b") }
+
+        buffer.text() shouldBe listOf("a", "b", "c").joinToString(lineSeparator())
+    }
+
+    @Test
+    fun `apply a series of edits without joining the lines`() {
+        val buffer = LineBuffer.ofLines(listOf("start", "end"))
+        (1..3).forEach { n ->
+            buffer.edit { it.add(1, "line $n") }
+        }
+
+        buffer.lines() shouldBe listOf("start", "line 3", "line 2", "line 1", "end")
+    }
+
+    @Test
+    fun `reuse the index of protoc markers until edited`() {
+        val buffer = LineBuffer("// @@protoc_insertion_point(foo)\nclass Foo")
+        val markers = buffer.protocMarkers()
+
+        buffer.protocMarkers() shouldBeSameInstanceAs markers
+        markers.linesOf("foo") shouldBe listOf(0)
+
+        buffer.edit { it.add(0, "// Header.") }
+
+        buffer.protocMarkers().linesOf("foo") shouldBe listOf(1)
+    }
+
+    @Test
+    fun `update the index of protoc markers when replacing lines`() {
+        val buffer = LineBuffer.ofLines(listOf(
+            "// @@protoc_insertion_point(a)",
+            "removed // @@protoc_insertion_point(b)",
+            "// @@protoc_insertion_point(a)"
+        ))
+        buffer.protocMarkers()
+
+        buffer.replace(1, 1, listOf("x", "// @@protoc_insertion_point(c)"))
+
+        buffer.protocMarkers().linesOf("a") shouldBe listOf(0, 3)
+        buffer.protocMarkers().linesOf("b") shouldBe emptyList()
+        buffer.protocMarkers().linesOf("c") shouldBe listOf(2)
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ProtocInsertionPoint` should")
+internal class ProtocInsertionPointSpec {
+
+    private val code = listOf(
+        "class Outer {",
+        "  // @@protoc_insertion_point(class_scope:Outer)",
+        "  class Inner {\r",
+        "    // @@protoc_insertion_point(class_scope:Outer.Inner)",
+        "  }",
+        "  // @@protoc_insertion_point(class_scope:Outer)",
+        "}",
+    ).joinToString("\n")
+
+    @Test
+    fun `locate all the lines with the marker`() {
+        val point = ProtocInsertionPoint("class_scope:Outer")
+        point.locate(code).shouldContainExactly(point.atLine(2), point.atLine(6))
+    }
+
+    @Test
+    fun `locate the markers in the same text independently`() {
+        val inner = ProtocInsertionPoint("class_scope:Outer.Inner")
+        val outer = ProtocInsertionPoint("class_scope:Outer")
+        inner.locate(code).shouldContainExactly(inner.atLine(4))
+        outer.locate(code).shouldContainExactly(outer.atLine(2), outer.atLine(6))
+    }
+
+    @Test
+    fun `locate the markers in the lines of code`() {
+        val point = ProtocInsertionPoint("class_scope:Outer")
+        point.locate(code.lines()).shouldContainExactly(point.atLine(2), point.atLine(6))
+    }
+
+    @Test
+    fun `not match a marker with a label starting with the same prefix`() {
+        ProtocInsertionPoint("class_scope:Out").locate(code).shouldBeEmpty()
+    }
+}
@@ -30,6 +30,7 @@ import io.kotest.matchers.shouldBe
 import io.spine.string.Indent
 import io.spine.string.Separator
 import io.spine.string.ti
+import kotlin.io.path.Path
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
 
@@ -56,8 +57,48 @@ internal class SourceAtLineSpec {
             |line 3
         """.tm()
     }
+
+    @Test
+    fun `locate the point in the lines of the file`() {
+        val file = SourceFile.fromCode(Path("Lines.java"), listOf("a", "// here", "b").joinNl())
+
+        file.at(LinePoint).add("first")
+        file.at(LinePoint).add("second")
+
+        file.lines() shouldBe listOf("a", "// here", "second", "first", "b")
+    }
+
+    @Test
+    fun `add code after each of protoc markers`() {
+        val marker = "// @@protoc_insertion_point(class_scope:Foo)"
+        val file = SourceFile.fromCode(Path("Foo.java"), listOf(marker, "x", marker).joinNl())
+        val point = ProtocInsertionPoint("class_scope:Foo")
+
+        file.at(point).add("1")
+        file.at(point).add("2")
+
+        file.lines() shouldBe listOf(marker, "2", "1", "x", marker, "2", "1")
+    }
 }
 
+/**
+ * The point after the line with the `here` comment, which is located only in lines of code.
+ */
+private object LinePoint : InsertionPoint {
+
+    override val label: String = ""
+
+    override fun locate(text: String): Set<TextCoordinates> =
+        error("The text must not be requested.")
+
+    override fun locate(lines: List<String>): Set<TextCoordinates> =
+        lines.withIndex()
+            .filter { it.value == "// here" }
+            .mapTo(LinkedHashSet()) { atLine(it.index + 1) }
+}
+
+private fun List<String>.joinNl() = joinToString(Separator.nl())
+
 /**
  * The same as [trimMargin] but with system-dependent line separator, for
  * compatibility with Windows.
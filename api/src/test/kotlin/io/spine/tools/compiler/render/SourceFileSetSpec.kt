@@ -29,11 +29,14 @@ package io.spine.tools.compiler.render
 import io.kotest.matchers.optional.shouldBePresent
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldNotBeSameInstanceAs
 import io.spine.tools.compiler.ast.typeName
 import io.spine.tools.compiler.render.given.PlainTextConvention
 import java.nio.file.Path
 import kotlin.io.path.Path
 import kotlin.io.path.div
+import kotlin.io.path.exists
+import kotlin.io.path.readText
 import org.junit.jupiter.api.Assertions.assertThrows
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
@@ -123,4 +126,85 @@ class SourceFileSetSpec {
         set.size shouldBe 2
         set.find(existingSourceFiles[1]) shouldBe null
     }
+
+    @Test
+    fun `find a created file by absolute path`() {
+        val created = set.createFile(Path("gen/example/baz.txt"), "generated")
+        set.find(set.outputRoot / "gen/example/baz.txt") shouldBe created
+    }
+
+    @Test
+    fun `fail when a path matches more than one file`() {
+        set.createFile(Path("example/foo.txt"), "another foo")
+        assertThrows(IllegalStateException::class.java) {
+            set.find(Path("/home/pkg/example/foo.txt"))
+        }
+    }
+
+    @Test
+    fun `keep unchanged output and delete stale files`() {
+        set.write()
+        val output = set.outputRoot
+        val stale = output / "stale/Removed.txt"
+        stale.parent.toFile().mkdirs()
+        stale.toFile().writeText("no longer generated")
+
+        val next = SourceFileSet.create(set.inputRoot, output, keepExistingOutput = true)
+        next.createFile(Path("gen/New.txt"), "new")
+        val report = next.write(skipUnchanged = true)
+
+        report shouldBe WriteReport(written = 1, skipped = existingSourceFiles.size, deleted = 1)
+        stale.exists() shouldBe false
+        (output / "gen/New.txt").exists() shouldBe true
+    }
+
+    @Test
+    fun `delete directories left empty by stale files`() {
+        set.write()
+        val output = set.outputRoot
+        val stale = output / "stale/nested/Removed.txt"
+        stale.parent.toFile().mkdirs()
+        stale.toFile().writeText("no longer generated")
+        val preserved = output / "kept/Kept.txt"
+        val emptied = output / "kept/gone/Removed.txt"
+        emptied.parent.toFile().mkdirs()
+        preserved.toFile().writeText("preserved")
+        emptied.toFile().writeText("no longer generated")
+
+        val next = SourceFileSet.create(set.inputRoot, output, keepExistingOutput = true)
+        next.preserveOutput(listOf(Path("kept/Kept.txt")))
+        next.write(skipUnchanged = true)
+
+        (output / "stale").exists() shouldBe false
+        (output / "kept/gone").exists() shouldBe false
+        preserved.exists() shouldBe true
+        output.exists() shouldBe true
+    }
+
+    @Test
+    fun `load the code of a file upon the first access`() {
+        existingSourceFilesAbsolute[0].toFile().writeText("updated after creation")
+        val file = set.file(existingSourceFiles[0])
+        file.code() shouldBe "updated after creation"
+    }
+
+    @Test
+    fun `copy files which were not accessed`() {
+        set.write()
+        existingSourceFiles.forEach {
+            (set.outputRoot / it).readText() shouldBe "this is a non-empty file"
+        }
+    }
+
+    @Test
+    fun `not share files with another set read from the same directory`(
+        @TempDir otherOutput: Path
+    ) {
+        val other = SourceFileSet.create(set.inputRoot, otherOutput)
+        val path = existingSourceFiles[0]
+        set.file(path).overwrite("changed by the first set")
+
+        other.file(path) shouldNotBeSameInstanceAs set.file(path)
+        other.file(path).code() shouldBe "this is a non-empty file"
+    }
 }
@@ -27,9 +27,12 @@
 package io.spine.tools.compiler.render
 
 import com.intellij.psi.PsiJavaFile
+import com.intellij.psi.PsiModifier.FINAL
 import io.kotest.matchers.shouldBe
 import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.string.shouldContain
 import io.spine.string.ti
+import io.spine.tools.psi.java.execute
 import java.nio.file.Path
 import kotlin.io.path.writeText
 import org.junit.jupiter.api.BeforeEach
@@ -83,4 +86,16 @@ internal class SourceFileSpec {
         updatedPsi shouldNotBe firstPsi
         (updatedPsi is PsiJavaFile) shouldBe true
     }
+
+    @Test
+    fun `keep the modified 'PsiFile' until the code is read`() {
+        val psi = sourceFile.psi() as PsiJavaFile
+        execute {
+            psi.classes[0].modifierList!!.setModifierProperty(FINAL, true)
+        }
+        sourceFile.markPsiModified()
+
+        sourceFile.psi() shouldBe psi
+        sourceFile.code() shouldContain "public final class HelloWorld"
+    }
 }
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.render
+
+import io.kotest.matchers.maps.shouldContainKey
+import io.kotest.matchers.shouldBe
+import java.lang.System.lineSeparator
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.div
+import kotlin.io.path.getLastModifiedTime
+import kotlin.io.path.readBytes
+import kotlin.io.path.readText
+import kotlin.io.path.setLastModifiedTime
+import kotlin.io.path.writeBytes
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`SourceFileWriter` should")
+internal class SourceFileWriterSpec {
+
+    @Test
+    fun `write files into nested directories`(@TempDir output: Path) {
+        val files = (1..40).map {
+            SourceFile.fromCode(Path("pkg${it % 4}/sub/File$it.java"), "class File$it {}")
+        }
+        SourceFileWriter(output, Charsets.UTF_8).write(files)
+
+        (1..40).forEach {
+            (output / "pkg${it % 4}/sub/File$it.java").readText() shouldBe "class File$it {}"
+        }
+    }
+
+    @Test
+    fun `replace the content of existing files`(@TempDir output: Path) {
+        val existing = output / "Existing.kt"
+        existing.writeText("a much longer content which should go away")
+
+        val file = SourceFile.fromCode(Path("Existing.kt"), "short")
+        SourceFileWriter(output, Charsets.UTF_8).write(listOf(file))
+
+        existing.readText() shouldBe "short"
+    }
+
+    @Test
+    fun `skip files with unchanged content`(@TempDir output: Path) {
+        val same = output / "Same.java"
+        same.writeText("class Same {}")
+        val lastModified = FileTime.fromMillis(1_000L)
+        same.setLastModifiedTime(lastModified)
+        val changed = output / "Changed.java"
+        changed.writeText("class Changed {}")
+
+        val files = listOf(
+            SourceFile.fromCode(Path("Same.java"), "class Same {}"),
+            SourceFile.fromCode(Path("Changed.java"), "class Changed { int i; }"),
+            SourceFile.fromCode(Path("New.java"), "class New {}"),
+        )
+        val report = SourceFileWriter(output, Charsets.UTF_8, skipUnchanged = true).write(files)
+
+        report shouldBe WriteReport(written = 2, skipped = 1, deleted = 0)
+        same.getLastModifiedTime() shouldBe lastModified
+        changed.readText() shouldBe "class Changed { int i; }"
+        (output / "New.java").readText() shouldBe "class New {}"
+    }
+
+    @Test
+    fun `write the edited lines of a long file`(@TempDir output: Path) {
+        val code = (1..2_000).joinToString(lineSeparator()) { "int field$it = $it;" }
+        val file = SourceFile.fromCode(Path("Long.java"), code)
+        file.replaceLines(0, 0, listOf("// Added."))
+
+        SourceFileWriter(output, Charsets.UTF_8).write(listOf(file))
+
+        (output / "Long.java").readText() shouldBe "// Added.${lineSeparator()}$code"
+    }
+
+    @Test
+    fun `copy unchanged files without loading their code`(@TempDir dir: Path) {
+        val input = dir / "input"
+        input.createDirectories()
+        // Not a valid UTF-8 sequence, which would be replaced if the code were decoded.
+        val content = byteArrayOf('/'.code.toByte(), '/'.code.toByte(), 0xC3.toByte(), 0x28)
+        (input / "Raw.java").writeBytes(content)
+        val file = SourceFile.read(input, Path("Raw.java"))
+
+        file.changedLines() shouldBe emptyList()
+        val output = dir / "output"
+        output.createDirectories()
+        SourceFileWriter(output, Charsets.UTF_8).write(listOf(file))
+
+        (output / "Raw.java").readBytes() shouldBe content
+    }
+
+    @Test
+    fun `write files which content only starts with the same code`(@TempDir output: Path) {
+        val longer = output / "Longer.java"
+        longer.writeText("class Longer {} // Removed.")
+        val shorter = output / "Shorter.java"
+        shorter.writeText("class Shorter")
+
+        val files = listOf(
+            SourceFile.fromCode(Path("Longer.java"), "class Longer {}"),
+            SourceFile.fromCode(Path("Shorter.java"), "class Shorter {}"),
+        )
+        val report = SourceFileWriter(output, Charsets.UTF_8, skipUnchanged = true).write(files)
+
+        report shouldBe WriteReport(written = 2, skipped = 0, deleted = 0)
+        longer.readText() shouldBe "class Longer {}"
+        shorter.readText() shouldBe "class Shorter {}"
+    }
+
+    @Test
+    fun `report all failures at once`(@TempDir output: Path) {
+        // Directories with the names of the files prevent writing these files.
+        (output / "Blocked1.java").createDirectories()
+        (output / "Blocked2.java").createDirectories()
+        val files = listOf(
+            SourceFile.fromCode(Path("Blocked1.java"), "1"),
+            SourceFile.fromCode(Path("Fine.java"), "fine"),
+            SourceFile.fromCode(Path("Blocked2.java"), "2"),
+        )
+
+        val exception = assertThrows<SourceWriteException> {
+            SourceFileWriter(output, Charsets.UTF_8).write(files)
+        }
+
+        exception.failures.size shouldBe 2
+        exception.failures shouldContainKey output / "Blocked1.java"
+        exception.failures shouldContainKey output / "Blocked2.java"
+        exception.suppressed.size shouldBe 2
+        (output / "Fine.java").readText() shouldBe "fine"
+    }
+}
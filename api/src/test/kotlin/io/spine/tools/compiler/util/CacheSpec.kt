@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.util
+
+import io.kotest.matchers.shouldBe
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit.SECONDS
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`Cache` should")
+internal class CacheSpec {
+
+    @Test
+    fun `create a value only once per key`() {
+        val cache = CountingCache()
+        cache.lookup("a") shouldBe "A"
+        cache.lookup("a") shouldBe "A"
+        cache.lookup("b") shouldBe "B"
+        cache.created.get() shouldBe 2
+    }
+
+    @Test
+    fun `not serialize creation of values for different keys`() {
+        val cache = BlockingCache(parties = 2)
+        val executor = Executors.newFixedThreadPool(2)
+        try {
+            val first = executor.submit<String> { cache.lookup("first") }
+            val second = executor.submit<String> { cache.lookup("second") }
+            // Each `create()` waits for the other one, so they must run concurrently.
+            first.get(10, SECONDS) shouldBe "FIRST"
+            second.get(10, SECONDS) shouldBe "SECOND"
+        } finally {
+            executor.shutdownNow()
+        }
+    }
+
+    @Test
+    fun `collect statistics when asked to`() {
+        val cache = CountingCache(recordStats = true)
+        cache.lookup("a")
+        cache.lookup("a")
+        cache.lookup("a")
+        cache.lookup("b")
+
+        val stats = cache.stats()
+        stats.hitCount shouldBe 2
+        stats.missCount shouldBe 2
+        stats.loadCount shouldBe 2
+        stats.hitRate shouldBe 0.5
+    }
+
+    @Test
+    fun `create values again after clearing`() {
+        val cache = CountingCache()
+        cache.lookup("a")
+        cache.clearCache()
+        cache.lookup("a")
+        cache.created.get() shouldBe 2
+    }
+}
+
+private class CountingCache(recordStats: Boolean = false) :
+    Cache<String, String>(recordStats = recordStats) {
+
+    val created = AtomicInteger()
+
+    override fun create(key: String, param: Any?): String {
+        created.incrementAndGet()
+        return key.uppercase()
+    }
+
+    fun lookup(key: String): String = get(key)
+}
+
+private class BlockingCache(parties: Int) : Cache<String, String>() {
+
+    private val latch = CountDownLatch(parties)
+
+    override fun create(key: String, param: Any?): String {
+        latch.countDown()
+        latch.await(5, SECONDS) shouldBe true
+        return key.uppercase()
+    }
+
+    fun lookup(key: String): String = get(key)
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.util
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import kotlin.io.path.Path
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`PathSuffixIndex` should")
+internal class PathSuffixIndexSpec {
+
+    private lateinit var index: PathSuffixIndex<String>
+
+    @BeforeEach
+    fun createIndex() {
+        index = PathSuffixIndex()
+        index.put(Path("io/spine/Foo.java"), "foo")
+        index.put(Path("io/spine/Bar.java"), "bar")
+        index.put(Path("com/acme/Bar.java"), "acme")
+    }
+
+    @Test
+    fun `find registered paths which are suffixes of a path`() {
+        index.suffixesOf(Path("/home/src/io/spine/Foo.java")) shouldContainExactly listOf("foo")
+        index.suffixesOf(Path("/home/src/org/spine/Foo.java")).shouldBeEmpty()
+    }
+
+    @Test
+    fun `find registered paths ending with a suffix`() {
+        index.endingWith(Path("spine/Foo.java")) shouldContainExactly listOf("foo")
+        index.endingWith(Path("Bar.java")) shouldContainExactly listOf("bar", "acme")
+        index.endingWith(Path("Baz.java")).shouldBeEmpty()
+    }
+
+    @Test
+    fun `match whole segments only`() {
+        index.endingWith(Path("pine/Foo.java")).shouldBeEmpty()
+        index.suffixesOf(Path("io/xspine/Foo.java")).shouldBeEmpty()
+    }
+
+    @Test
+    fun `find the earliest registered path ending with a suffix`() {
+        index.firstEndingWith(Path("Bar.java")) shouldBe "bar"
+        index.firstEndingWith(Path("acme/Bar.java")) shouldBe "acme"
+        index.firstEndingWith(Path("Qux.java")) shouldBe null
+    }
+
+    @Test
+    fun `keep the registration order when replacing a value`() {
+        index.put(Path("io/spine/Bar.java"), "new bar")
+        index.firstEndingWith(Path("Bar.java")) shouldBe "new bar"
+        index.endingWith(Path("Bar.java")) shouldContainExactly listOf("new bar", "acme")
+    }
+
+    @Test
+    fun `stay consistent after removal`() {
+        index.remove(Path("io/spine/Bar.java")) shouldBe true
+        index.remove(Path("io/spine/Bar.java")) shouldBe false
+
+        index.firstEndingWith(Path("Bar.java")) shouldBe "acme"
+        index.firstEndingWith(Path("spine/Bar.java")) shouldBe null
+        index.endingWith(Path("io/spine/Bar.java")).shouldBeEmpty()
+        index.endingWith(Path("io/spine/Foo.java")) shouldContainExactly listOf("foo")
+    }
+}
@@ -40,6 +40,7 @@ plugins {
     `java-test-fixtures`
     `build-proto-model`
     prototap
+    `jmh-module`
 }
 
 dependencies {
@@ -63,6 +64,14 @@ dependencies {
     testImplementation(JUnit.Jupiter.params)
 }
 
+/**
+ * Allows the benchmarks of this module to call its internal API,
+ * e.g., `CompilerEvents.parse()`, which is not reachable via public API alone.
+ */
+kotlin.target.compilations.named("jmh") {
+    associateWith(kotlin.target.compilations.getByName("main"))
+}
+
 apply<IncrementGuard>()
 
 tasks.withType<CheckVersionIncrement> {
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
+import io.spine.tools.compiler.ast.DescriptorIndex
+import io.spine.tools.compiler.backend.event.CompilerEvents
+import io.spine.tools.compiler.backend.toTypeSystem
+import io.spine.tools.compiler.protobuf.ProtoFileList
+import io.spine.tools.compiler.type.TypeSystem
+import java.util.concurrent.TimeUnit.MILLISECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures turning a `CodeGeneratorRequest` into the type system and
+ * the events of the Protobuf compiler.
+ *
+ * Each invocation of [parse] uses a new [DescriptorIndex], as each `Pipeline` does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+open class CompilerEventsBenchmark {
+
+    /**
+     * The number of messages in the model.
+     */
+    @Param("10", "100", "1000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var request: CodeGeneratorRequest
+    private lateinit var typeSystem: TypeSystem
+
+    @Setup(Level.Trial)
+    fun createModel() {
+        request = Models.request(size)
+        typeSystem = request.toTypeSystem(ProtoFileList(emptyList()))
+    }
+
+    @Benchmark
+    fun parse(blackhole: Blackhole) {
+        DescriptorIndex().within {
+            CompilerEvents.parse(request, typeSystem, { true })
+                .forEach(blackhole::consume)
+        }
+    }
+
+    @Benchmark
+    fun toTypeSystem(): TypeSystem =
+        request.toTypeSystem(ProtoFileList(emptyList()))
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import com.google.protobuf.Descriptors.FileDescriptor
+import io.spine.tools.compiler.ast.Coordinates
+import io.spine.tools.compiler.ast.DescriptorIndex
+import io.spine.tools.compiler.ast.Documentation
+import io.spine.tools.compiler.backend.DescriptorGraph
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures the lookups of the documentation and the coordinates of
+ * the messages and their fields.
+ *
+ * Each invocation uses a new [DescriptorIndex], so that the measured time
+ * includes indexing the source code info of the files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+open class LocationsBenchmark {
+
+    /**
+     * The number of messages in the model.
+     */
+    @Param("10", "100", "1000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var files: List<FileDescriptor>
+
+    @Setup(Level.Trial)
+    fun createModel() {
+        files = DescriptorGraph(Models.request(size)).files.toList()
+    }
+
+    @Benchmark
+    fun documentation(blackhole: Blackhole) {
+        DescriptorIndex().within {
+            files.forEach { file ->
+                val docs = Documentation.of(file)
+                file.messageTypes.forEach { message ->
+                    blackhole.consume(docs.forMessage(message))
+                    message.fields.forEach { blackhole.consume(docs.forField(it)) }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    fun coordinates(blackhole: Blackhole) {
+        DescriptorIndex().within {
+            files.forEach { file ->
+                val coordinates = Coordinates.of(file)
+                file.messageTypes.forEach { message ->
+                    blackhole.consume(coordinates.forMessage(message))
+                    message.fields.forEach { blackhole.consume(coordinates.forField(it)) }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import com.google.protobuf.DescriptorProtos.DescriptorProto
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_OPTIONAL
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Label.LABEL_REPEATED
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_MESSAGE
+import com.google.protobuf.DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.DescriptorProtos.FileOptions
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo
+import com.google.protobuf.DescriptorProtos.SourceCodeInfo.Location
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
+
+/**
+ * Generates Protobuf models of the given size for the benchmarks.
+ *
+ * A model consists of files with [MESSAGES_PER_FILE] messages each.
+ * Every message has a few scalar fields and, except for the first message of
+ * a file, a field referencing the previous message of the same file.
+ * The messages and their fields are documented, so that the source code info
+ * of the files is not empty.
+ */
+internal object Models {
+
+    /**
+     * The Protobuf package of the generated models.
+     */
+    const val PACKAGE = "spine.compiler.bench"
+
+    /**
+     * The number of messages declared in one file of a model.
+     */
+    const val MESSAGES_PER_FILE = 10
+
+    /**
+     * The name of the field referencing the previous message of the same file.
+     */
+    const val PREVIOUS_FIELD = "previous"
+
+    /**
+     * The name of the string field of each message.
+     */
+    const val NAME_FIELD = "name"
+
+    /**
+     * The number of the `message_type` field in `FileDescriptorProto`.
+     */
+    private const val MESSAGE_TYPE_FIELD = 4
+
+    /**
+     * The number of the `field` field in `DescriptorProto`.
+     */
+    private const val FIELD_FIELD = 2
+
+    /**
+     * Creates a request for generating the code for a model with the given
+     * number of messages.
+     */
+    fun request(messageCount: Int): CodeGeneratorRequest {
+        val files = (0 until messageCount)
+            .chunked(MESSAGES_PER_FILE)
+            .mapIndexed { index, messages -> file(index, messages) }
+        return CodeGeneratorRequest.newBuilder()
+            .addAllProtoFile(files)
+            .addAllFileToGenerate(files.map { it.name })
+            .build()
+    }
+
+    /**
+     * Obtains the simple name of the message with the given index.
+     */
+    fun messageName(index: Int): String = "Message$index"
+
+    private fun file(index: Int, messages: List<Int>): FileDescriptorProto {
+        val sourceInfo = SourceCodeInfo.newBuilder()
+        val builder = FileDescriptorProto.newBuilder()
+            .setName("spine/compiler/bench/model_$index.proto")
+            .setPackage(PACKAGE)
+            .setSyntax("proto3")
+            .setOptions(
+                FileOptions.newBuilder()
+                    .setJavaPackage("io.spine.compiler.bench")
+                    .setJavaMultipleFiles(true)
+            )
+        messages.forEachIndexed { position, message ->
+            val first = position == 0
+            val type = message(message, first)
+            builder.addMessageType(type)
+            sourceInfo.addLocation(
+                location("A message of the model.", MESSAGE_TYPE_FIELD, position)
+            )
+            type.fieldList.indices.forEach { field ->
+                sourceInfo.addLocation(
+                    location(
+                        "A field of the message.",
+                        MESSAGE_TYPE_FIELD, position, FIELD_FIELD, field
+                    )
+                )
+            }
+        }
+        return builder.setSourceCodeInfo(sourceInfo).build()
+    }
+
+    private fun message(index: Int, first: Boolean): DescriptorProto {
+        val builder = DescriptorProto.newBuilder()
+            .setName(messageName(index))
+            .addField(field(NAME_FIELD, 1, TYPE_STRING))
+            .addField(field("count", 2, TYPE_INT32))
+            .addField(field("tag", 3, TYPE_STRING).setLabel(LABEL_REPEATED))
+        if (!first) {
+            builder.addField(
+                field(PREVIOUS_FIELD, 4, TYPE_MESSAGE)
+                    .setTypeName(".$PACKAGE.${messageName(index - 1)}")
+            )
+        }
+        return builder.build()
+    }
+
+    private fun field(
+        name: String,
+        number: Int,
+        type: FieldDescriptorProto.Type
+    ): FieldDescriptorProto.Builder =
+        FieldDescriptorProto.newBuilder()
+            .setName(name)
+            .setJsonName(name)
+            .setNumber(number)
+            .setLabel(LABEL_OPTIONAL)
+            .setType(type)
+
+    private fun location(comment: String, vararg path: Int): Location =
+        Location.newBuilder()
+            .addAllPath(path.toList())
+            .addAllSpan(listOf(0, 0, 1))
+            .setLeadingComments(comment)
+            .build()
+}
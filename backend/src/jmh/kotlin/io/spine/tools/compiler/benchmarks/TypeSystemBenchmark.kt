@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import io.spine.base.FieldPath
+import io.spine.tools.compiler.ast.MessageType
+import io.spine.tools.compiler.ast.TypeName
+import io.spine.tools.compiler.backend.DescriptorGraph
+import io.spine.tools.compiler.backend.toTypeSystem
+import io.spine.tools.compiler.protobuf.ProtoFileList
+import io.spine.tools.compiler.protobuf.name
+import io.spine.tools.compiler.protobuf.toMessageType
+import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.compiler.type.resolve
+import java.util.concurrent.TimeUnit.MICROSECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures the lookups of the message types in the [TypeSystem].
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MICROSECONDS)
+open class TypeSystemBenchmark {
+
+    /**
+     * The number of messages in the model.
+     */
+    @Param("10", "100", "1000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var typeSystem: TypeSystem
+    private lateinit var names: List<TypeName>
+
+    /**
+     * The last messages of the files paired with the paths going through
+     * all the references to the previous messages of the same file.
+     */
+    private lateinit var longestPaths: List<Pair<MessageType, FieldPath>>
+
+    @Setup
+    fun createModel() {
+        val request = Models.request(size)
+        typeSystem = request.toTypeSystem(ProtoFileList(emptyList()))
+        val files = DescriptorGraph(request).files
+        names = files.flatMap { it.messageTypes }.map { it.name() }
+        longestPaths = files.map { file ->
+            val depth = file.messageTypes.size - 1
+            val path = FieldPath.newBuilder()
+                .addAllFieldName(List(depth) { Models.PREVIOUS_FIELD } + Models.NAME_FIELD)
+                .build()
+            file.messageTypes.last().toMessageType() to path
+        }
+    }
+
+    @Benchmark
+    fun findMessage(blackhole: Blackhole) {
+        names.forEach {
+            blackhole.consume(typeSystem.findMessage(it))
+        }
+    }
+
+    @Benchmark
+    fun resolve(blackhole: Blackhole) {
+        longestPaths.forEach { (message, path) ->
+            blackhole.consume(typeSystem.resolve(path, message))
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:JvmName("CodeGeneratorResponses")
+
+package io.spine.tools.compiler.backend
+
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse.Feature.FEATURE_PROTO3_OPTIONAL
+import com.google.protobuf.compiler.codeGeneratorResponse
+import io.spine.annotation.Internal
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
+import java.nio.file.Path
+import kotlin.io.path.invariantSeparatorsPathString
+
+/**
+ * Creates a `CodeGeneratorResponse` with the code of these source sets.
+ *
+ * The names of the files in the response are relative to the common parent directory of
+ * the [output roots][SourceFileSet.outputRoot]. For a single source set, this is its output root.
+ * The output directory of the `protoc` plugin is expected to be this common parent.
+ *
+ * The files are passed to `protoc` as follows:
+ *  - A file created by the renderers is passed with its whole code, including
+ *    the `@@protoc_insertion_point` markers, so that the plugins called by `protoc`
+ *    after this one may insert their code.
+ *  - A file read from a source root and not modified is not passed at all because
+ *    it was already generated by `protoc` or by another plugin.
+ *  - The code added to a file read from a source root is passed as insertions
+ *    into the [insertion points][CodeGeneratorResponse.File.getInsertionPoint] of the file.
+ *    `protoc` does not allow a plugin to write a file generated by another plugin,
+ *    so this is the only way to modify such a file.
+ *
+ * The files [deleted][SourceFile.delete] from the source sets are not reflected in
+ * the response because `protoc` has no means to delete files.
+ *
+ * @throws IllegalStateException if the code of a file read from a source root was modified
+ *   other than by adding lines next to the `@@protoc_insertion_point` markers.
+ */
+@Internal
+public fun List<SourceFileSet>.toCodeGeneratorResponse(): CodeGeneratorResponse {
+    val base = map { it.outputRoot }.commonParent()
+    return codeGeneratorResponse {
+        supportedFeatures = FEATURE_PROTO3_OPTIONAL.number.toLong()
+        this@toCodeGeneratorResponse.forEach { sourceSet ->
+            sourceSet.filter { it.isChanged() }.forEach { sourceFile ->
+                val path = base.relativize(sourceSet.outputRoot.resolve(sourceFile.relativePath))
+                val name = path.invariantSeparatorsPathString
+                val original = sourceFile.originalLines()
+                if (original == null) {
+                    file += responseFile(name, sourceFile.code())
+                } else {
+                    file += insertions(sourceFile, original).map {
+                        responseFile(name, it.content, it.label)
+                    }
+                }
+            }
+        }
+    }
+}
+
+private fun responseFile(
+    name: String,
+    content: String,
+    insertionPoint: String? = null
+): CodeGeneratorResponse.File =
+    CodeGeneratorResponse.File.newBuilder()
+        .setName(name)
+        .setContent(content)
+        .apply { insertionPoint?.let { setInsertionPoint(it) } }
+        .build()
+
+/**
+ * The code to be inserted by `protoc` into the insertion point with the given [label].
+ */
+private class Insertion(val label: String, val content: String)
+
+/**
+ * Obtains the insertions of the blocks of lines [added][SourceFile.addedLines] to
+ * the given file, whose [original] lines are generated by `protoc`.
+ *
+ * Each block must be placed right after or right before the line of
+ * an `@@protoc_insertion_point` marker of the original code. The block is bound to
+ * the marker above it, if any. `protoc` indents the inserted code as the marker,
+ * so the indentation of the marker is stripped from the lines of the block.
+ */
+private fun insertions(file: SourceFile<*>, original: List<String>): List<Insertion> {
+    val added = file.addedLines()
+    check(added != null) {
+        "The code of the file `${file.relativePath}` generated by `protoc` was modified." +
+                " When the Compiler runs as a `protoc` plugin, the files generated by" +
+                " `protoc` can only be modified by adding code at their" +
+                " `@@protoc_insertion_point` markers."
+    }
+    return added.map { block ->
+        val marker = listOfNotNull(
+            original.getOrNull(block.after),
+            original.getOrNull(block.after + 1)
+        ).firstNotNullOfOrNull { line -> MARKER.find(line)?.let { line to it } }
+        check(marker != null) {
+            "The code was added to the file `${file.relativePath}` outside of" +
+                    " `@@protoc_insertion_point` markers after the line ${block.after + 1}." +
+                    " When the Compiler runs as a `protoc` plugin, the code can be added" +
+                    " to the files generated by `protoc` only at their insertion points."
+        }
+        val (line, match) = marker
+        val indent = line.substring(0, line.length - line.trimStart().length)
+        val content = block.lines.joinToString(separator = "") { it.removePrefix(indent) + "\n" }
+        Insertion(match.groupValues[1], content)
+    }
+}
+
+/**
+ * Matches the `@@protoc_insertion_point` marker, capturing its label.
+ */
+private val MARKER = Regex("""@@protoc_insertion_point\(([^)]+)\)""")
+
+/**
+ * Obtains the longest path which is a parent of, or equal to, each of the paths in this list.
+ */
+private fun List<Path>.commonParent(): Path {
+    require(isNotEmpty()) { "Cannot find the common parent of no paths." }
+    val normalized = map { it.toAbsolutePath().normalize() }
+    var common = normalized.first()
+    normalized.drop(1).forEach { path ->
+        while (!path.startsWith(common)) {
+            common = checkNotNull(common.parent) {
+                "The paths `${joinToString()}` have no common parent."
+            }
+        }
+    }
+    return common
+}
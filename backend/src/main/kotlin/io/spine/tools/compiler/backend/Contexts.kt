@@ -29,6 +29,8 @@ package io.spine.tools.compiler.backend
 import io.spine.annotation.VisibleForTesting
 import io.spine.base.EntityState
 import io.spine.base.EventMessage
+import io.spine.base.Time.currentTime
+import io.spine.core.actorContext
 import io.spine.core.userId
 import io.spine.server.BoundedContext
 import io.spine.server.BoundedContext.singleTenant
@@ -37,9 +39,12 @@ import io.spine.server.entity.Entity
 import io.spine.server.integration.ThirdPartyContext
 import io.spine.server.query.QueryingClient
 import io.spine.tools.compiler.context.CodegenContext
+import io.spine.tools.compiler.context.ViewSnapshot
+import io.spine.tools.compiler.plugin.View
 import io.spine.tools.compiler.plugin.add
 import io.spine.tools.compiler.protobuf.ProtoFileList
 import io.spine.tools.compiler.type.TypeSystem
+import java.nio.file.Path
 import kotlin.reflect.jvm.jvmName
 
 /**
@@ -85,10 +90,7 @@ public class CodeGenerationContext(
 
     init {
         val builder = singleTenant("$NAME_PREFIX$pipelineId").apply {
-            add<ProtoSourceFileView>()
-            add<DependencyView>()
-            add<InsertionPointsView>()
-            add<SettingsView>()
+            DEFAULT_VIEWS.forEach { add(it.kotlin) }
         }
         builder.setup()
         context = builder.build()
@@ -108,6 +110,22 @@ public class CodeGenerationContext(
 
     override val insertionPointsContext: ThirdPartyContext by pointsLazy
 
+    override var snapshot: ViewSnapshot? = null
+        private set
+
+    override var cacheDirectory: Path? = null
+        internal set
+
+    /**
+     * Takes the [snapshot] of the states of the given types.
+     *
+     * The method must be called after the events that change the states are emitted.
+     * The states are loaded into the snapshot upon the first query.
+     */
+    internal fun freeze(types: Set<Class<out EntityState<*>>>) {
+        snapshot = ViewSnapshot(this, types)
+    }
+
     override fun <E : Entity<*, *>> hasEntitiesOfType(cls: Class<E>): Boolean =
         context.hasEntitiesOfType(cls)
 
@@ -133,6 +151,16 @@ public class CodeGenerationContext(
         @VisibleForTesting
         public const val NAME_PREFIX: String = "Code Generation-"
 
+        /**
+         * The views added to each instance of the context.
+         */
+        internal val DEFAULT_VIEWS: List<Class<out View<*, *, *>>> = listOf(
+            ProtoSourceFileView::class.java,
+            DependencyView::class.java,
+            InsertionPointsView::class.java,
+            SettingsView::class.java
+        )
+
         /**
          * Creates a new instance of the `Code Generation` bounded context with
          * only the default repositories.
@@ -158,10 +186,22 @@ internal sealed class ExternalContext(pipelineId: String, name: String) : AutoCl
 
     /**
      * Produces and emits events from given event messages.
+     *
+     * The events are emitted in the order of the sequence on behalf of the same
+     * actor context, which is created once for the whole sequence rather than
+     * for each of the events. The sequence is consumed lazily, so that a large
+     * batch of events is never held in memory at once.
+     *
+     * Each event is still posted to the [ThirdPartyContext] separately.
+     * The events are not dispatched to the repositories as one batch.
      */
     fun emitted(events: Sequence<EventMessage>) {
+        val actorContext = actorContext {
+            actor = this@ExternalContext.actor
+            timestamp = currentTime()
+        }
         events.forEach {
-            context.emittedEvent(it, actor)
+            context.emittedEvent(it, actorContext)
         }
     }
 
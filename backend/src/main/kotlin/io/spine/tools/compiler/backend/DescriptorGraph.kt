@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import com.google.common.collect.ImmutableSet
+import com.google.protobuf.Descriptors.FileDescriptor
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
+import io.spine.code.proto.FileSet
+import io.spine.tools.compiler.ast.ProtobufSourceFile
+import io.spine.tools.compiler.protobuf.FileDependencies
+import io.spine.tools.compiler.protobuf.ProtoFileList
+import io.spine.tools.compiler.protobuf.toPbSourceFile
+import io.spine.tools.compiler.type.TypeSystem
+
+/**
+ * Descriptors of the Protobuf files passed to the compiler with a [CodeGeneratorRequest].
+ *
+ * Cross-linking of the file descriptors is one of the most expensive steps for
+ * large proto trees. The graph builds the descriptors lazily, only once, and
+ * shares them between the [TypeSystem] and the producers of compiler events
+ * within the same [Pipeline].
+ *
+ * @param request The request with the descriptors of the files.
+ */
+internal class DescriptorGraph(private val request: CodeGeneratorRequest) {
+
+    /**
+     * Descriptors of all the files in the [request], including dependencies
+     * of the files to generate.
+     */
+    val files: ImmutableSet<FileDescriptor> by lazy {
+        FileSet.of(request.protoFileList).files()
+    }
+
+    /**
+     * Names of the files for which code should be generated.
+     */
+    val filesToGenerate: Set<String> by lazy {
+        request.fileToGenerateList.toSet()
+    }
+
+    /**
+     * Source files obtained from the [files], keyed by the descriptor instances.
+     */
+    private val sourceFiles: Map<FileDescriptor, ProtobufSourceFile> by lazy {
+        files.associateWith { it.toPbSourceFile() }
+    }
+
+    /**
+     * Obtains the source file for the given descriptor.
+     *
+     * The descriptor is expected to belong to this graph. Otherwise, a new instance of
+     * [ProtobufSourceFile] is created.
+     */
+    fun sourceFile(file: FileDescriptor): ProtobufSourceFile =
+        sourceFiles[file] ?: file.toPbSourceFile()
+
+    /**
+     * Obtains the names of the [files to generate][filesToGenerate] affected by
+     * the changes in the files with the given names.
+     *
+     * A file is affected if it is changed itself, or if it imports
+     * a changed file directly or transitively.
+     */
+    fun affectedBy(changed: Set<String>): Set<String> =
+        files.filter { it.name in filesToGenerate }
+            .filter { file ->
+                FileDependencies(listOf(file)).asList().any { it.name in changed }
+            }
+            .mapTo(HashSet()) { it.name }
+
+    /**
+     * Creates a [TypeSystem] containing all the files of this graph.
+     */
+    fun toTypeSystem(compiledProtoFiles: ProtoFileList): TypeSystem =
+        TypeSystem(compiledProtoFiles, sourceFiles.values.toSet())
+}
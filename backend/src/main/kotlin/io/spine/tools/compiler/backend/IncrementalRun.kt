@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import com.google.protobuf.Descriptors.FileDescriptor
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
+import io.spine.logging.WithLogging
+import io.spine.tools.compiler.ast.toPath
+import io.spine.tools.compiler.backend.IncrementalState.Companion.digest
+import io.spine.tools.compiler.params.PipelineParameters
+import io.spine.tools.compiler.render.SourceFileSet
+import java.nio.file.Files.walk
+import java.nio.file.Path
+import kotlin.io.path.Path
+import kotlin.io.path.bufferedReader
+import kotlin.io.path.deleteIfExists
+import kotlin.io.path.exists
+import kotlin.io.path.fileSize
+import kotlin.io.path.getLastModifiedTime
+import kotlin.io.path.isRegularFile
+import kotlin.io.path.readBytes
+
+/**
+ * Incremental code generation performed by a [Pipeline].
+ *
+ * The run compares the digests of the proto files with those of the previous run
+ * stored in the [state file][PipelineParameters.getIncrementalState].
+ * The proto files which changed, and the files importing them, are [affected].
+ * The events are emitted only for the affected files.
+ *
+ * A generated file originates from a proto file if the file has the `source:` comment
+ * which `protoc` puts into the header of the generated code. The source files and
+ * the output files originating from unaffected proto files are
+ * [excluded][SourceFileSet.preserveOutput] from rendering, and their output written
+ * by the previous run is kept as is.
+ * This includes the files created by the Compiler plugins, so that they are not
+ * deleted as stale ones.
+ *
+ * All the files are affected, and the run is a full one, if:
+ *  - there is no previous state;
+ *  - the inputs other than the proto files changed;
+ *  - the origin of a source file, or of a file written by the previous run, is unknown;
+ *  - a source file or a kept output file originating from an unaffected proto file
+ *    is not the same as after the previous run.
+ *
+ * @param params The parameters of the pipeline.
+ * @param request The request with the compiled proto files.
+ * @param descriptors The descriptors of the files in the [request].
+ */
+internal class IncrementalRun(
+    private val params: PipelineParameters,
+    private val request: CodeGeneratorRequest,
+    private val descriptors: DescriptorGraph
+) : WithLogging {
+
+    private val stateFile: Path = params.incrementalState.toPath()
+
+    private var previous: IncrementalState? = null
+
+    private var sources: List<SourceFileSet> = emptyList()
+
+    private val current: IncrementalState by lazy {
+        val protos = request.protoFileList.associate { it.name to digest(it.toByteArray()) }
+        IncrementalState(fingerprint(), protos)
+    }
+
+    /**
+     * Names of the files to generate which are affected by the changes
+     * since the previous run, or `null` if all the files are affected.
+     */
+    val affected: Set<String>? by lazy {
+        val previous = previous
+        if (previous == null || previous.fingerprint != current.fingerprint) {
+            return@lazy null
+        }
+        if (previous.outputs.values.any { it.origin == null }) {
+            logger.atDebug().log {
+                "Incremental generation: the previous run wrote files of unknown origin."
+            }
+            return@lazy null
+        }
+        val affected = descriptors.affectedBy(current.changedSince(previous))
+        if (intact(previous, affected)) affected else null
+    }
+
+    /**
+     * Reads the state of the previous run and deletes the state file.
+     *
+     * If the pipeline fails, the next run processes all the files.
+     *
+     * @param sources The source sets processed by the pipeline.
+     */
+    fun start(sources: List<SourceFileSet>) {
+        this.sources = sources
+        previous = IncrementalState.read(stateFile)
+        stateFile.deleteIfExists()
+        logger.atDebug().log {
+            val affected = affected
+            if (affected == null) {
+                "Incremental generation: processing all the files."
+            } else {
+                "Incremental generation: ${affected.size} of" +
+                        " ${descriptors.filesToGenerate.size} files affected."
+            }
+        }
+    }
+
+    /**
+     * Combines the given [filter] with the filter accepting only the [affected] files.
+     */
+    fun filter(filter: DescriptorFilter): DescriptorFilter {
+        val affected = affected ?: return filter
+        return { descriptor ->
+            filter(descriptor) && (descriptor !is FileDescriptor || descriptor.name in affected)
+        }
+    }
+
+    /**
+     * Excludes the files originating from the unaffected proto files from rendering
+     * and keeps their output written by the previous run.
+     */
+    fun preserveUnaffectedOutput() {
+        val affected = affected ?: return
+        val outputs = previous!!.outputs
+        sources.forEach { set ->
+            val kept = outputs.filterValues { it.isUnaffected(affected) }
+                .keys
+                .map { Path(it) }
+                .filter { it.startsWith(set.outputRoot) }
+                .map { set.outputRoot.relativize(it) }
+            set.preserveOutput(kept)
+        }
+    }
+
+    /**
+     * Saves the state of this run, including the digests of the source files
+     * and of the generated files.
+     */
+    fun save() {
+        val inputs = HashMap<String, String>()
+        sources.map { it.inputRoot }
+            .filter { it.exists() }
+            .flatMap { files(it) }
+            .forEach { inputs[it.toString()] = digest(it.readBytes()) }
+        val outputs = HashMap<String, IncrementalState.Output>()
+        sources.map { it.outputRoot }
+            .filter { it.exists() }
+            .flatMap { files(it) }
+            .forEach {
+                val output = IncrementalState.Output(digest(it.readBytes()), originOf(it))
+                outputs[it.toString()] = output
+            }
+        current.copy(inputDigests = inputs, outputs = outputs).writeTo(stateFile)
+    }
+
+    /**
+     * Tells if the files originating from the proto files which are not [affected]
+     * are the same as after the [previous] run.
+     *
+     * The source files of such origin must not change, as they are not rendered
+     * again. The output files of such origin must not change, as they are kept.
+     */
+    private fun intact(previous: IncrementalState, affected: Set<String>): Boolean {
+        val inputs = sources.map { it.inputRoot }
+            .filter { it.exists() }
+            .flatMap { files(it) }
+        val inputsIntact = inputs.all { input ->
+            val origin = originOf(input)
+            when {
+                origin == null || origin !in descriptors.filesToGenerate -> false
+                origin in affected -> true
+                else -> previous.inputDigests[input.toString()] == digest(input.readBytes())
+            }
+        }
+        val outputsIntact = inputsIntact && previous.outputs
+            .filterValues { it.isUnaffected(affected) }
+            .all { (path, output) ->
+                val file = Path(path)
+                file.isRegularFile() && digest(file.readBytes()) == output.digest
+            }
+        if (!outputsIntact) {
+            logger.atDebug().log {
+                "Incremental generation: the files of the unaffected proto files changed."
+            }
+        }
+        return outputsIntact
+    }
+
+    /**
+     * Tells if this output originates from a file to generate which is not [affected].
+     */
+    private fun IncrementalState.Output.isUnaffected(affected: Set<String>): Boolean =
+        origin != null && origin in descriptors.filesToGenerate && origin !in affected
+
+    /**
+     * Calculates the digest of the inputs of the run other than the proto files.
+     *
+     * The digest covers the parameters of the pipeline, the content of
+     * the settings files, and the sizes and modification times of the files on
+     * the classpath of the Compiler plugins and of the Compiler itself.
+     */
+    private fun fingerprint(): String = digest { md ->
+        md.update(params.toBuilder().clearIncrementalState().build().toByteArray())
+        val settings = params.settings.toPath()
+        if (params.hasSettings() && settings.exists()) {
+            files(settings).forEach {
+                md.update(settings.relativize(it).toString().toByteArray())
+                md.update(it.readBytes())
+            }
+        }
+        val compiler = Pipeline::class.java.protectionDomain?.codeSource?.location?.path
+        (params.userClasspathList + listOfNotNull(compiler))
+            .map { Path(it) }
+            .filter { it.exists() }
+            .flatMap { files(it) }
+            .forEach {
+                val modified = it.getLastModifiedTime().toMillis()
+                md.update("$it:${it.fileSize()}:$modified".toByteArray())
+            }
+    }
+}
+
+/**
+ * Obtains the regular files under the given path sorted by their paths.
+ */
+private fun files(path: Path): List<Path> = walk(path).use { paths ->
+    paths.filter { it.isRegularFile() }.sorted().toList()
+}
+
+/**
+ * The pattern of the comment added by `protoc` to the generated files,
+ * which refers to the proto file from which the code was generated.
+ */
+private val SOURCE_COMMENT = Regex("""[Ss]ource: (\S+\.proto)""")
+
+/**
+ * The number of lines at the beginning of a generated file searched for [SOURCE_COMMENT].
+ */
+private const val HEADER_LINES = 30
+
+/**
+ * Obtains the name of the proto file from which the given generated file originates.
+ *
+ * @return the name of the proto file, or `null` if the file is not found or
+ *   does not refer to a proto file.
+ */
+private fun originOf(file: Path): String? {
+    if (!file.isRegularFile()) {
+        return null
+    }
+    return file.bufferedReader().use { reader ->
+        reader.lineSequence()
+            .take(HEADER_LINES)
+            .firstNotNullOfOrNull { SOURCE_COMMENT.find(it)?.groupValues?.get(1) }
+    }
+}
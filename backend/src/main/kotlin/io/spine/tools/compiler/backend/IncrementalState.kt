@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.security.MessageDigest
+import java.util.HexFormat
+import kotlin.io.path.exists
+import kotlin.io.path.readLines
+import kotlin.io.path.writeLines
+
+/**
+ * The state of a [Pipeline] run persisted for incremental code generation.
+ *
+ * @property fingerprint The digest of the inputs of the run other than the proto files,
+ *   such as the pipeline parameters, the plugin settings, and the classpath.
+ * @property protoDigests The digests of the proto files by their names.
+ * @property inputDigests The digests of the source files, such as the code generated
+ *   by `protoc`, by their absolute paths.
+ * @property outputs The generated files by their absolute paths.
+ */
+internal data class IncrementalState(
+    val fingerprint: String,
+    val protoDigests: Map<String, String>,
+    val inputDigests: Map<String, String> = emptyMap(),
+    val outputs: Map<String, Output> = emptyMap()
+) {
+
+    /**
+     * A file generated by a run.
+     *
+     * @property digest The digest of the file content.
+     * @property origin The name of the proto file from which the file was generated,
+     *   or `null` if the origin is unknown.
+     */
+    data class Output(val digest: String, val origin: String?)
+
+    /**
+     * Obtains the names of the proto files which were added, changed, or removed
+     * since the [previous] state.
+     */
+    fun changedSince(previous: IncrementalState): Set<String> {
+        val changed = protoDigests.filter { (name, digest) ->
+            previous.protoDigests[name] != digest
+        }.keys
+        val removed = previous.protoDigests.keys - protoDigests.keys
+        return changed + removed
+    }
+
+    /**
+     * Writes this state to the given [file].
+     */
+    fun writeTo(file: Path) {
+        val lines = buildList {
+            add("$FINGERPRINT$SEPARATOR$fingerprint")
+            protoDigests.forEach { (name, digest) ->
+                add("$PROTO$SEPARATOR$digest$SEPARATOR$name")
+            }
+            inputDigests.forEach { (path, digest) ->
+                add("$INPUT$SEPARATOR$digest$SEPARATOR$path")
+            }
+            outputs.forEach { (path, output) ->
+                val origin = output.origin ?: NO_ORIGIN
+                add("$OUTPUT$SEPARATOR${output.digest}$SEPARATOR$origin$SEPARATOR$path")
+            }
+        }
+        Files.createDirectories(file.toAbsolutePath().parent)
+        file.writeLines(lines)
+    }
+
+    companion object {
+
+        private const val SEPARATOR = '\t'
+        private const val FINGERPRINT = "fingerprint"
+        private const val PROTO = "proto"
+        private const val INPUT = "input"
+        private const val OUTPUT = "output"
+
+        /**
+         * The origin written for the outputs of unknown origin.
+         *
+         * It never clashes with a proto file name, which ends with `.proto`.
+         */
+        private const val NO_ORIGIN = "-"
+
+        /**
+         * Reads the state from the given [file].
+         *
+         * @return the read state, or `null` if the file does not exist or
+         *   has an unexpected format.
+         */
+        fun read(file: Path): IncrementalState? {
+            if (!file.exists()) {
+                return null
+            }
+            var fingerprint: String? = null
+            val protos = HashMap<String, String>()
+            val inputs = HashMap<String, String>()
+            val outputs = HashMap<String, Output>()
+            file.readLines().forEach { line ->
+                val parts = line.split(SEPARATOR, limit = 4)
+                when {
+                    parts.size == 2 && parts[0] == FINGERPRINT -> fingerprint = parts[1]
+                    parts.size == 3 && parts[0] == PROTO -> protos[parts[2]] = parts[1]
+                    parts.size == 3 && parts[0] == INPUT -> inputs[parts[2]] = parts[1]
+                    parts.size == 4 && parts[0] == OUTPUT -> {
+                        val origin = parts[2].takeIf { it != NO_ORIGIN }
+                        outputs[parts[3]] = Output(parts[1], origin)
+                    }
+                    else -> return null
+                }
+            }
+            return fingerprint?.let { IncrementalState(it, protos, inputs, outputs) }
+        }
+
+        /**
+         * Calculates the hexadecimal digest of the given [bytes].
+         */
+        fun digest(bytes: ByteArray): String = digest { it.update(bytes) }
+
+        /**
+         * Calculates the hexadecimal digest of the data passed to
+         * the [MessageDigest] by the given [action].
+         */
+        fun digest(action: (MessageDigest) -> Unit): String {
+            val md = MessageDigest.getInstance("SHA-256")
+            action(md)
+            return HexFormat.of().formatHex(md.digest())
+        }
+    }
+}
@@ -29,7 +29,6 @@ package io.spine.tools.compiler.backend
 import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
 import io.spine.annotation.Internal
 import io.spine.annotation.VisibleForTesting
-import io.spine.code.proto.FileSet
 import io.spine.environment.DefaultMode
 import io.spine.logging.WithLogging
 import io.spine.server.delivery.Delivery
@@ -37,26 +36,30 @@ import io.spine.server.storage.memory.InMemoryStorageFactory
 import io.spine.server.transport.memory.InMemoryTransportFactory
 import io.spine.server.under
 import io.spine.string.ti
-import io.spine.tools.compiler.ast.Coordinates
+import io.spine.tools.compiler.ast.DescriptorIndex
 import io.spine.tools.compiler.ast.Directory
-import io.spine.tools.compiler.ast.Documentation
 import io.spine.tools.compiler.ast.File
 import io.spine.tools.compiler.ast.toPath
 import io.spine.tools.compiler.backend.event.CompilerEvents
+import io.spine.tools.compiler.backend.event.ConsumedEvents
 import io.spine.tools.compiler.context.CodegenContext
 import io.spine.tools.compiler.params.PipelineParameters
 import io.spine.tools.compiler.plugin.Plugin
 import io.spine.tools.compiler.plugin.applyTo
+import io.spine.tools.compiler.plugin.registerRenderers
 import io.spine.tools.compiler.plugin.render
+import io.spine.tools.compiler.plugin.renderSet
 import io.spine.tools.compiler.protobuf.ProtoFileList
-import io.spine.tools.compiler.protobuf.toPbSourceFile
+import io.spine.tools.compiler.render.PsiWarmUp
 import io.spine.tools.compiler.render.Renderer
-import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.compiler.render.WriteReport
 import io.spine.tools.compiler.settings.SettingsDirectory
 import io.spine.tools.compiler.type.TypeSystem
+import io.spine.tools.compiler.util.WorkerPool
 import io.spine.type.parse
 import io.spine.validation.NonValidated
+import java.util.concurrent.Callable
 import kotlin.io.path.Path
 import kotlin.io.path.exists
 import kotlin.io.path.inputStream
@@ -77,6 +80,18 @@ import kotlin.io.path.inputStream
  *
  * Lastly, the source set is stored back onto the file system.
  *
+ * ### Concurrency
+ *
+ * The events are emitted and handled by the entities of the contexts on the thread
+ * which [invokes][invoke] the pipeline.
+ *
+ * If [parallel rendering][PipelineParameters.getParallelRendering] is on, the source
+ * sets are rendered and written concurrently, each source set on its own thread.
+ * The files of a source set are modified only by the thread rendering this set.
+ * The renderers which are not [thread-safe][Renderer.isThreadSafe], as well as parsing
+ * of the code into PSI, hold the process-wide `RenderingLock`. It guards the fields of
+ * such renderers and the PSI environment, which are shared between the source sets.
+ *
  * @property id The ID of the pipeline to be used for distinguishing contexts when
  *   two or more pipelines are executed in the same JVM. If not specified, the ID will be generated.
  * @property params The parameters passed to the pipeline. As the `@NonValidated` annotation
@@ -90,13 +105,17 @@ import kotlin.io.path.inputStream
  *  The default value accepts all the descriptors.
  *  The primary usage scenario for this parameter is accepting only the descriptors of interest
  *  when running tests.
+ * @param givenRequest The request already parsed by the caller, e.g., received by
+ *  the `protoc` plugin via its standard input. If `null`, the request is loaded from the file
+ *  specified by the [params][PipelineParameters.getRequest].
  */
 @Internal
 public class Pipeline(
     public val id: String = generateId(),
     public val params: @NonValidated PipelineParameters,
     @VisibleForTesting additionalPlugins: List<Plugin> = emptyList(),
-    private val descriptorFilter: DescriptorFilter = { true }
+    private val descriptorFilter: DescriptorFilter = { true },
+    private val givenRequest: CodeGeneratorRequest? = null
 ) : WithLogging {
 
     /**
@@ -113,7 +132,9 @@ public class Pipeline(
      */
     public val request: CodeGeneratorRequest by lazy {
         val requestFile = params.request
-        val loadedRequest = if (requestFile == File.getDefaultInstance()) {
+        val loadedRequest = if (givenRequest != null) {
+            givenRequest
+        } else if (requestFile == File.getDefaultInstance()) {
             // This is a case of passing partial parameters to a pipeline in tests.
             CodeGeneratorRequest.getDefaultInstance()
         } else {
@@ -125,6 +146,37 @@ public class Pipeline(
         loadedRequest
     }
 
+    /**
+     * The descriptors of the files passed with the [request].
+     */
+    private val descriptors: DescriptorGraph by lazy {
+        DescriptorGraph(request)
+    }
+
+    /**
+     * The index of the documentation and coordinates of the [descriptors].
+     *
+     * Serves the lookups made during the run of this pipeline.
+     */
+    private val descriptorIndex = DescriptorIndex()
+
+    /**
+     * The incremental code generation, or `null` if the incremental mode is off.
+     */
+    private val incremental: IncrementalRun? by lazy {
+        if (params.hasIncrementalState()) {
+            IncrementalRun(params, request, descriptors)
+        } else {
+            null
+        }
+    }
+
+    /**
+     * Tells if the files written by the previous run should be kept if not changed.
+     */
+    private val keepOutput: Boolean
+        get() = params.skipUnchangedFiles || params.hasIncrementalState()
+
     /**
      * The directory to which setting files for the [additionalPlugins] should be stored.
      */
@@ -149,7 +201,7 @@ public class Pipeline(
      * The type system passed to the plugins at the start of the pipeline.
      */
     private val typeSystem: TypeSystem by lazy {
-        request.toTypeSystem(compiledProtoFiles)
+        descriptors.toTypeSystem(compiledProtoFiles)
     }
 
     /**
@@ -203,7 +255,7 @@ public class Pipeline(
             ?.zip(targets)
             ?.map { (s, t) -> s.toPath() to t.toPath() }
             ?.filter { (s, _) -> s.exists() }
-            ?.map { (s, t) -> SourceFileSet.create(s, t) }
+            ?.map { (s, t) -> SourceFileSet.create(s, t, keepOutput) }
             ?: targets.oneSetWithNoFiles()
     }
 
@@ -229,8 +281,10 @@ public class Pipeline(
      *
      * The execution is performed in [Delivery.direct] mode, meaning
      * that no concurrent modification of entity states is allowed.
-     * Therefore, the execution of the code related to the signal processing
-     * should be single-threaded.
+     * Therefore, the compiler and configuration events are emitted and handled on
+     * the calling thread. If the rendering is [concurrent][Pipeline], the events
+     * emitted by renderers, such as the events about printed insertion points,
+     * are serialized by the rendering lock of the renderers which are not thread-safe.
      *
      * @param afterCompile The callback invoked after the compilation process and before
      *  closing [CodegenContext] and other contexts.
@@ -239,7 +293,56 @@ public class Pipeline(
      *  entity states of interest.
      */
     public operator fun invoke(afterCompile: (CodegenContext) -> Unit = {}) {
-        clearCaches()
+        descriptorIndex.within {
+            start()
+            emitEventsAndRenderSources(afterCompile)
+        }
+    }
+
+    /**
+     * Executes the processing pipeline without writing the source files.
+     *
+     * The caller is responsible for passing the [output files][SourceFileSet.outputFiles]
+     * of the returned source sets to their destination.
+     *
+     * The incremental mode is not supported because it relies on the files written
+     * by the previous run.
+     *
+     * @return the source sets after rendering.
+     * @throws IllegalArgumentException if the [params] turn on the incremental mode.
+     */
+    public fun render(): List<SourceFileSet> {
+        require(!params.hasIncrementalState()) {
+            "Rendering without writing the files cannot be incremental."
+        }
+        descriptorIndex.within {
+            start()
+            codegenContext.use {
+                ConfigurationContext(id).use { configuration ->
+                    ProtobufCompilerContext(id).use { compiler ->
+                        val heap = startViewHeap()
+                        emitEvents(configuration, compiler)
+                        freezeViews()
+                        logFootprint(heap)
+                        plugins.forEach { it.render(codegenContext, sources) }
+                    }
+                }
+            }
+        }
+        return sources
+    }
+
+    /**
+     * Starts warming up the PSI environment in background and logs
+     * the arguments of this run.
+     *
+     * No process-wide caches are cleared here, as other pipelines may be
+     * running in the same process. The state of this run, such as the source files
+     * and the [descriptor index][descriptorIndex], belongs to this pipeline.
+     */
+    private fun start() {
+        PsiWarmUp.start()
+        incremental?.start(sources)
 
         logger.atDebug().log { """
             Starting code generation with the following arguments:
@@ -249,29 +352,19 @@ public class Pipeline(
                   - parameter: ${request.parameter}.
             """.ti()
         }
-
-        emitEventsAndRenderSources(afterCompile)
-    }
-
-    /**
-     * Clears the static caches that could have been created by previous runs, e.g., when
-     * running from tests.
-     *
-     * Clears the caches of previously parsed files to avoid repeated code generation.
-     * Also, clears the caches of [Documentation] and [Coordinates] classes.
-     */
-    private fun clearCaches() {
-        SourceFile.clearCache()
-        Documentation.clearCache()
-        Coordinates.clearCache()
     }
 
     private fun emitEventsAndRenderSources(afterCompile: (CodegenContext) -> Unit) {
         codegenContext.use {
             ConfigurationContext(id).use { configuration ->
                 ProtobufCompilerContext(id).use { compiler ->
+                    val heap = startViewHeap()
                     emitEvents(configuration, compiler)
+                    freezeViews()
+                    logFootprint(heap)
+                    incremental?.preserveUnaffectedOutput()
                     renderSources()
+                    incremental?.save()
                     afterCompile(codegenContext)
                 }
             }
@@ -286,22 +379,86 @@ public class Pipeline(
             plugins.forEach {
                 it.applyTo(this, typeSystem)
             }
+        }.also {
+            if (params.hasCache()) {
+                it.cacheDirectory = params.cache.toPath()
+            }
         }
 
     private fun emitEvents(
         configuration: ConfigurationContext,
         compiler: ProtobufCompilerContext
     ) {
-        settings.emitEvents().forEach {
-            configuration.emitted(it)
-        }
-        val events = CompilerEvents.parse(request, typeSystem, descriptorFilter)
+        configuration.emitted(settings.emitEvents().asSequence())
+        val filter = incremental?.filter(descriptorFilter) ?: descriptorFilter
+        val consumed = ConsumedEvents.of(CodeGenerationContext.DEFAULT_VIEWS, plugins)
+        val events = CompilerEvents.parse(descriptors, typeSystem, filter, consumed)
         compiler.emitted(events)
     }
 
+    /**
+     * Takes the snapshot of the views which do not change after the events are emitted,
+     * so that renderers query them without going through the `BoundedContext`.
+     */
+    private fun freezeViews() {
+        val context = codegenContext as? CodeGenerationContext ?: return
+        context.freeze(stableStates(CodeGenerationContext.DEFAULT_VIEWS, plugins))
+    }
+
+    /**
+     * Starts measuring the heap taken by the views, if debug logging is enabled.
+     *
+     * @return the started measurement, or `null` if the footprint of the views
+     *   is not going to be logged.
+     */
+    private fun startViewHeap(): ViewHeap? =
+        if (logger.atDebug().isEnabled()) ViewHeap.start() else null
+
+    /**
+     * Logs the memory taken by the states of the views, if the [heap] is measured.
+     *
+     * The report is composed only when debug logging is enabled, because measuring
+     * the views requires loading all their states and collecting garbage.
+     */
+    private fun logFootprint(heap: ViewHeap?) {
+        heap ?: return
+        val types = viewStates(CodeGenerationContext.DEFAULT_VIEWS, plugins)
+        logger.atDebug().log { codegenContext.footprintReport(types, heap) }
+    }
+
     private fun renderSources() {
-        plugins.forEach { it.render(codegenContext, sources) }
-        sources.forEach { it.write() }
+        if (params.parallelRendering && sources.size > 1) {
+            renderSourcesConcurrently()
+        } else {
+            plugins.forEach { it.render(codegenContext, sources) }
+            val reports = sources.map { it.write(skipUnchanged = keepOutput) }
+            logWritten(reports)
+        }
+    }
+
+    /**
+     * Renders and writes each of the [sources] on a separate thread of the [WorkerPool].
+     *
+     * Within a source set, the plugins and their renderers are called in
+     * the same order as during sequential rendering.
+     */
+    private fun renderSourcesConcurrently() {
+        plugins.forEach { it.registerRenderers(codegenContext) }
+        val tasks = sources.map { sourceSet ->
+            Callable {
+                descriptorIndex.within {
+                    plugins.forEach { it.renderSet(sourceSet) }
+                    sourceSet.write(skipUnchanged = keepOutput)
+                }
+            }
+        }
+        val reports = WorkerPool.invokeAll(tasks)
+        logWritten(reports)
+    }
+
+    private fun logWritten(reports: List<WriteReport>) {
+        val total = reports.fold(WriteReport.EMPTY, WriteReport::plus)
+        logger.atDebug().log { "Source files: $total." }
     }
 
     public companion object {
@@ -327,11 +484,8 @@ private fun printError(message: String?) {
  * Converts this code generation request into [TypeSystem] taking all the proto files.
  */
 @VisibleForTesting
-internal fun CodeGeneratorRequest.toTypeSystem(compiledProtoFiles: ProtoFileList): TypeSystem {
-    val fileDescriptors = FileSet.of(protoFileList).files()
-    val protoFiles = fileDescriptors.map { it.toPbSourceFile() }
-    return TypeSystem(compiledProtoFiles, protoFiles.toSet())
-}
+internal fun CodeGeneratorRequest.toTypeSystem(compiledProtoFiles: ProtoFileList): TypeSystem =
+    DescriptorGraph(this).toTypeSystem(compiledProtoFiles)
 
 /**
  * Creates a list that contains a single, empty source set.
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import com.google.protobuf.Descriptors.FileDescriptor
+import io.spine.base.EntityState
+import io.spine.base.EventMessage
+import io.spine.protobuf.defaultInstance
+import io.spine.tools.compiler.ast.event.FileEntered
+import io.spine.tools.compiler.backend.event.subscribedMessages
+import io.spine.tools.compiler.plugin.Plugin
+import io.spine.tools.compiler.plugin.View
+import io.spine.tools.compiler.render.event.InsertionPointPrinted
+import io.spine.tools.compiler.settings.event.SettingsFileDiscovered
+import java.lang.reflect.ParameterizedType
+
+/**
+ * Obtains the classes of states of the views which do not change after
+ * the events of the Protobuf compiler and the configuration are emitted.
+ *
+ * A view is considered stable only if all the messages it subscribes to are
+ * the events of the Protobuf compiler or of the configuration, which are emitted
+ * before the views are frozen. A view subscribing to other events, such as
+ * [InsertionPointPrinted] emitted during rendering or the events of plugins,
+ * or to the states of other entities, may change later and is not stable.
+ *
+ * The components added by [Plugin.extend] are not known to the pipeline and,
+ * therefore, are never considered stable.
+ *
+ * @param views The views added to the context by default.
+ * @param plugins The plugins of the pipeline.
+ */
+internal fun stableStates(
+    views: Iterable<Class<out View<*, *, *>>>,
+    plugins: Iterable<Plugin>
+): Set<Class<out EntityState<*>>> {
+    return allViews(views, plugins)
+        .filter { view -> view.subscribedMessages().all { it.isEmittedBeforeFreeze() } }
+        .mapNotNull { it.stateClass() }
+        .toSet()
+}
+
+/**
+ * The files declaring the events of the Protobuf compiler and of the configuration.
+ */
+private val filesOfEventsBeforeFreeze: Set<FileDescriptor> = setOf(
+    FileEntered.getDescriptor().file,
+    SettingsFileDiscovered.getDescriptor().file
+)
+
+/**
+ * Tells if this class is a class of the events of the Protobuf compiler or
+ * of the configuration.
+ *
+ * Interfaces of events, such as `FileAwareEvent`, may be implemented by other events,
+ * so a subscription to them is not considered as such.
+ */
+private fun Class<*>.isEmittedBeforeFreeze(): Boolean {
+    if (isInterface || !EventMessage::class.java.isAssignableFrom(this)) {
+        return false
+    }
+    @Suppress("UNCHECKED_CAST") // Checked above.
+    val file = (this as Class<out EventMessage>).defaultInstance.descriptorForType.file
+    return file in filesOfEventsBeforeFreeze
+}
+
+/**
+ * Obtains the classes of states of all the views known to the pipeline.
+ *
+ * Similarly to [stableStates], the components added by [Plugin.extend] are not included.
+ *
+ * @param views The views added to the context by default.
+ * @param plugins The plugins of the pipeline.
+ */
+internal fun viewStates(
+    views: Iterable<Class<out View<*, *, *>>>,
+    plugins: Iterable<Plugin>
+): Set<Class<out EntityState<*>>> =
+    allViews(views, plugins)
+        .mapNotNull { it.stateClass() }
+        .toSet()
+
+private fun allViews(
+    views: Iterable<Class<out View<*, *, *>>>,
+    plugins: Iterable<Plugin>
+): List<Class<*>> = views + plugins.flatMap { plugin ->
+    plugin.views + plugin.viewRepositories.map { it.entityClass() }
+}
+
+/**
+ * Obtains the class of the state of this view class.
+ *
+ * @return the state class, or `null` if it cannot be resolved, e.g.,
+ *   for a view class which is itself generic.
+ */
+private fun Class<*>.stateClass(): Class<out EntityState<*>>? {
+    var cls: Class<*>? = this
+    while (cls != null && cls != View::class.java) {
+        val superclass = cls.genericSuperclass
+        if (superclass is ParameterizedType && superclass.rawType == View::class.java) {
+            val argument = superclass.actualTypeArguments[1]
+            @Suppress("UNCHECKED_CAST") // Ensured by the bounds of `View`.
+            return (argument as? Class<*>) as Class<out EntityState<*>>?
+        }
+        cls = cls.superclass
+    }
+    return null
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import io.spine.base.EntityState
+import io.spine.server.query.Querying
+import io.spine.tools.compiler.context.allStates
+import java.lang.management.ManagementFactory
+
+/**
+ * The number and the serialized size of the states of a view.
+ *
+ * The serialized size tells how the views compare with each other. It does not tell
+ * the heap taken by the states, which is measured by [ViewHeap].
+ *
+ * @property stateType The class of the view state.
+ * @property count The number of the states.
+ * @property bytes The total size of the states serialized into the Protobuf binary format.
+ */
+internal data class ViewFootprint(
+    val stateType: Class<out EntityState<*>>,
+    val count: Int,
+    val bytes: Long
+) {
+
+    override fun toString(): String =
+        "${stateType.simpleName}: $count state(s), $bytes byte(s) serialized"
+
+    companion object {
+
+        /**
+         * Measures the states of the given type available to the given [context].
+         */
+        fun of(context: Querying, type: Class<out EntityState<*>>): ViewFootprint {
+            val states = context.allStates(type)
+            return ViewFootprint(type, states.size, states.sumOf { it.serializedSize.toLong() })
+        }
+    }
+}
+
+/**
+ * Measures the heap taken by the views of a pipeline.
+ *
+ * The measurement is the difference of the heap used after a garbage collection
+ * when the measurement [starts][start] and when the heap is [taken][taken].
+ * Started before the events are emitted and taken after the views are frozen and
+ * read, it covers the records of the views in the storage as well as
+ * the [snapshot][io.spine.tools.compiler.context.ViewSnapshot] of the stable views,
+ * which keeps another, unpacked copy of their states.
+ *
+ * As the measurement forces garbage collection, it is meant for diagnostics only,
+ * e.g., for sizing build agents. Other pipelines running in the same process
+ * affect the measurement.
+ */
+internal class ViewHeap private constructor(private val usedBefore: Long) {
+
+    /**
+     * Obtains the number of bytes by which the used heap grew since the measurement started.
+     */
+    fun taken(): Long = usedHeapAfterGc() - usedBefore
+
+    companion object {
+
+        /**
+         * Starts the measurement.
+         */
+        fun start(): ViewHeap = ViewHeap(usedHeapAfterGc())
+    }
+}
+
+private fun usedHeapAfterGc(): Long {
+    val memory = ManagementFactory.getMemoryMXBean()
+    memory.gc()
+    return memory.heapMemoryUsage.used
+}
+
+/**
+ * Composes a report on the memory taken by the states of the given types.
+ *
+ * The views are listed starting from the largest one. The heap is taken after
+ * reading all the states, so that the [snapshot][io.spine.tools.compiler.context.ViewSnapshot]
+ * of the stable views is loaded by the time of the measurement.
+ */
+internal fun Querying.footprintReport(
+    types: Iterable<Class<out EntityState<*>>>,
+    heap: ViewHeap
+): String {
+    val footprints = types.map { ViewFootprint.of(this, it) }
+        .sortedByDescending { it.bytes }
+    val taken = heap.taken() / BYTES_IN_KIB
+    return buildString {
+        append("The views take $taken KiB of heap, including the snapshot of stable views:")
+        footprints.forEach { append(System.lineSeparator()).append("  - ").append(it) }
+    }
+}
+
+private const val BYTES_IN_KIB = 1024
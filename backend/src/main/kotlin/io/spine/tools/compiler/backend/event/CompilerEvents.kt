@@ -26,15 +26,16 @@
 
 package io.spine.tools.compiler.backend.event
 
-import com.google.common.collect.ImmutableSet
-import com.google.protobuf.DescriptorProtos.FileDescriptorProto
 import com.google.protobuf.Descriptors.FileDescriptor
 import com.google.protobuf.Descriptors.GenericDescriptor
 import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
 import io.spine.base.EventMessage
-import io.spine.code.proto.FileSet
 import io.spine.tools.compiler.ast.ProtoFileHeader
 import io.spine.tools.compiler.ast.copy
+import io.spine.tools.compiler.ast.event.DependencyDiscovered
+import io.spine.tools.compiler.ast.event.FileEntered
+import io.spine.tools.compiler.ast.event.FileExited
+import io.spine.tools.compiler.ast.event.FileOptionDiscovered
 import io.spine.tools.compiler.ast.event.dependencyDiscovered
 import io.spine.tools.compiler.ast.event.fileEntered
 import io.spine.tools.compiler.ast.event.fileExited
@@ -43,9 +44,9 @@ import io.spine.tools.compiler.ast.produceOptionEvents
 import io.spine.tools.compiler.ast.toAbsoluteFile
 import io.spine.tools.compiler.ast.toJava
 import io.spine.tools.compiler.backend.DescriptorFilter
+import io.spine.tools.compiler.backend.DescriptorGraph
 import io.spine.tools.compiler.protobuf.file
 import io.spine.tools.compiler.protobuf.toHeader
-import io.spine.tools.compiler.protobuf.toPbSourceFile
 import io.spine.tools.compiler.type.TypeSystem
 
 /**
@@ -59,22 +60,43 @@ internal object CompilerEvents {
      * The sequence is produced lazily. An element is produced only when polled.
      *
      * The resulting sequence is always finite, it's limited by the type set.
+     *
+     * Only the events of the [consumed] classes are produced.
      */
     fun parse(
         request: CodeGeneratorRequest,
         typeSystem: TypeSystem,
-        descriptorFilter: DescriptorFilter
+        descriptorFilter: DescriptorFilter,
+        consumed: ConsumedEvents = ConsumedEvents.ALL
+    ): Sequence<EventMessage> =
+        parse(DescriptorGraph(request), typeSystem, descriptorFilter, consumed)
+
+    /**
+     * Produces a sequence of events based on the descriptors of the given graph.
+     *
+     * The sequence is produced lazily. An element is produced only when polled.
+     *
+     * The resulting sequence is always finite, it's limited by the type set.
+     *
+     * Only the events of the [consumed] classes are produced.
+     */
+    fun parse(
+        descriptors: DescriptorGraph,
+        typeSystem: TypeSystem,
+        descriptorFilter: DescriptorFilter,
+        consumed: ConsumedEvents = ConsumedEvents.ALL
     ): Sequence<EventMessage> {
-        val allFiles = request.protoFileList.toDescriptors()
-        val filesToGenerate = request.fileToGenerateList.toSet()
+        val filesToGenerate = descriptors.filesToGenerate
         return sequence {
-            val (compiledFiles, dependencies) = allFiles.partition {
+            val (compiledFiles, dependencies) = descriptors.files.partition {
                 it.name in filesToGenerate
             }
-            yieldAll(dependencies.map { it.toDependencyEvent() })
+            if (consumed.includes<DependencyDiscovered>()) {
+                yieldAll(dependencies.map { descriptors.toDependencyEvent(it) })
+            }
             compiledFiles
                 .filter(descriptorFilter)
-                .map { ProtoFileEvents(it, typeSystem, descriptorFilter) }
+                .map { ProtoFileEvents(it, typeSystem, descriptorFilter, consumed) }
                 .forEach {
                     it.apply { produceEvents() }
                 }
@@ -88,7 +110,8 @@ internal object CompilerEvents {
 private class ProtoFileEvents(
     private val file: FileDescriptor,
     typeSystem: TypeSystem,
-    private val descriptorFilter: DescriptorFilter
+    private val descriptorFilter: DescriptorFilter,
+    private val consumed: ConsumedEvents
 ) {
     /**
      * The header of the proto [file] passed to the constructor.
@@ -120,60 +143,56 @@ private class ProtoFileEvents(
      * At last, closes with an [FileExited][io.spine.tools.compiler.ast.event.FileExited] event.
      */
     suspend fun SequenceScope<EventMessage>.produceEvents() {
-        yield(
-            fileEntered {
-                // Avoid the name clash with the class property.
-                val hdr = this@ProtoFileEvents.header
-                file = hdr.file
-                header = hdr
-            }
-        )
-        produceOptionEvents(file.options, file) {
-            fileOptionDiscovered {
-                file = header.file
-                option = it
+        if (consumed.includes<FileEntered>()) {
+            yield(
+                fileEntered {
+                    // Avoid the name clash with the class property.
+                    val hdr = this@ProtoFileEvents.header
+                    file = hdr.file
+                    header = hdr
+                }
+            )
+        }
+        if (consumed.includes<FileOptionDiscovered>()) {
+            produceOptionEvents(file.options, file) {
+                fileOptionDiscovered {
+                    file = header.file
+                    option = it
+                }
             }
         }
-        val messageEvents = MessageEvents(header)
+        val messageEvents = MessageEvents(header, consumed)
         file.messageTypes.forEachFiltered {
             messageEvents.apply { produceEvents(it) }
         }
-        val enumEvents = EnumEvents(header)
+        val enumEvents = EnumEvents(header, consumed)
         file.enumTypes.forEachFiltered {
             enumEvents.apply { produceEvents(it) }
         }
-        val serviceEvents = ServiceEvents(header)
+        val serviceEvents = ServiceEvents(header, consumed)
         file.services.forEachFiltered {
             serviceEvents.apply { produceEvents(it) }
         }
-        yield(
-            fileExited {
-                file = header.file
-            }
-        )
+        if (consumed.includes<FileExited>()) {
+            yield(
+                fileExited {
+                    file = header.file
+                }
+            )
+        }
     }
 
     private inline fun <T : GenericDescriptor> List<T>.forEachFiltered(
         action: (T) -> Unit) = filter(descriptorFilter).forEach(action)
 }
 
-/**
- * Convert this collection of [FileDescriptorProto] to a set of corresponding
- * instances of [FileDescriptor].
- */
-private fun Collection<FileDescriptorProto>.toDescriptors(): ImmutableSet<FileDescriptor> {
-    val files = FileSet.of(this)
-    val fileDescriptors = files.files()
-    return fileDescriptors
-}
-
 /**
  * Creates a `DependencyDiscovered` event from the given file descriptor.
  *
  * The event reflects all the definitions from the file.
  */
-private fun FileDescriptor.toDependencyEvent() =
+private fun DescriptorGraph.toDependencyEvent(descriptor: FileDescriptor) =
     dependencyDiscovered {
-        file = file()
-        source = toPbSourceFile()
+        file = descriptor.file()
+        source = sourceFile(descriptor)
     }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend.event
+
+import io.spine.base.EventMessage
+import io.spine.core.Subscribe
+import io.spine.server.BoundedContextBuilder
+import io.spine.server.event.React
+import io.spine.tools.compiler.plugin.Plugin
+import io.spine.tools.compiler.plugin.View
+
+/**
+ * The classes of compiler events which are consumed by the components of a pipeline.
+ *
+ * [CompilerEvents] do not produce the events nobody subscribes to, saving the cost of
+ * building them, and of parsing the options for the `*OptionDiscovered` events.
+ *
+ * @param classes The classes of the events accepted by subscribers, or `null`
+ *   if all the events must be produced.
+ */
+internal class ConsumedEvents private constructor(
+    private val classes: Set<Class<*>>?
+) {
+
+    /**
+     * Tells if the events of the given class have subscribers.
+     */
+    fun accepts(cls: Class<out EventMessage>): Boolean =
+        classes == null || classes.any { it.isAssignableFrom(cls) }
+
+    /**
+     * Tells if the events of the type [E] have subscribers.
+     */
+    inline fun <reified E : EventMessage> includes(): Boolean = accepts(E::class.java)
+
+    companion object {
+
+        /**
+         * The instance accepting all the events.
+         */
+        val ALL = ConsumedEvents(null)
+
+        /**
+         * Collects the classes of events consumed by the given views and
+         * the views, view repositories, and reactions of the given plugins.
+         *
+         * The event classes are obtained from the parameters of the methods annotated
+         * with [Subscribe] or [React].
+         *
+         * If one of the plugins [extends][Plugin.extend] the context with custom components,
+         * their subscriptions cannot be known in advance. In this case, all the events
+         * are considered consumed.
+         */
+        fun of(
+            views: Iterable<Class<out View<*, *, *>>>,
+            plugins: Iterable<Plugin>
+        ): ConsumedEvents {
+            if (plugins.any { it.extendsContext() }) {
+                return ALL
+            }
+            val subscribers = views + plugins.flatMap { plugin ->
+                plugin.views +
+                        plugin.viewRepositories.map { it.entityClass() } +
+                        plugin.reactions.map { it.javaClass }
+            }
+            val classes = subscribers.flatMap { it.subscribedEvents() }.toSet()
+            return ConsumedEvents(classes)
+        }
+    }
+}
+
+/**
+ * Tells if this plugin overrides [Plugin.extend].
+ */
+private fun Plugin.extendsContext(): Boolean {
+    val method = javaClass.getMethod("extend", BoundedContextBuilder::class.java)
+    return method.declaringClass != Plugin::class.java
+}
+
+/**
+ * Obtains the classes of the event messages accepted by the subscriber and reactor
+ * methods of this class and its superclasses.
+ */
+internal fun Class<*>.subscribedEvents(): List<Class<*>> =
+    subscribedMessages()
+        .filter { EventMessage::class.java.isAssignableFrom(it) }
+
+/**
+ * Obtains the classes of the messages accepted by the subscriber and reactor
+ * methods of this class and its superclasses.
+ *
+ * Unlike [subscribedEvents], the result includes the states of entities
+ * the methods subscribe to.
+ */
+internal fun Class<*>.subscribedMessages(): List<Class<*>> =
+    generateSequence(this) { it.superclass }
+        .flatMap { it.declaredMethods.asSequence() }
+        .filter { it.isAnnotationPresent(Subscribe::class.java)
+                || it.isAnnotationPresent(React::class.java) }
+        .mapNotNull { it.parameterTypes.firstOrNull() }
+        .toList()
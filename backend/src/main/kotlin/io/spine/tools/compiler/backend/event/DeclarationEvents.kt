@@ -47,9 +47,11 @@ import io.spine.tools.compiler.ast.ProtoFileHeader
  *
  * @param T The type of the Protobuf declaration.
  * @param header The header of the declaring proto file.
+ * @param consumed The classes of events to produce.
  */
 internal abstract class DeclarationEvents<T : GenericDescriptor>(
     protected val header: ProtoFileHeader,
+    protected val consumed: ConsumedEvents,
 ) {
 
     /**
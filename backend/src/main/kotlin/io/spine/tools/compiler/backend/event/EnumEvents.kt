@@ -31,6 +31,13 @@ import com.google.protobuf.Descriptors.EnumValueDescriptor
 import io.spine.base.EventMessage
 import io.spine.tools.compiler.ast.ProtoFileHeader
 import io.spine.tools.compiler.ast.constantName
+import io.spine.tools.compiler.ast.event.EnumConstantEntered
+import io.spine.tools.compiler.ast.event.EnumConstantExited
+import io.spine.tools.compiler.ast.event.EnumConstantOptionDiscovered
+import io.spine.tools.compiler.ast.event.EnumDiscovered
+import io.spine.tools.compiler.ast.event.EnumEntered
+import io.spine.tools.compiler.ast.event.EnumExited
+import io.spine.tools.compiler.ast.event.EnumOptionDiscovered
 import io.spine.tools.compiler.ast.event.enumConstantEntered
 import io.spine.tools.compiler.ast.event.enumConstantExited
 import io.spine.tools.compiler.ast.event.enumConstantOptionDiscovered
@@ -47,7 +54,10 @@ import io.spine.tools.compiler.protobuf.toEnumType
 /**
  * Produces events for an enum.
  */
-internal class EnumEvents(header: ProtoFileHeader) : DeclarationEvents<EnumDescriptor>(header) {
+internal class EnumEvents(
+    header: ProtoFileHeader,
+    consumed: ConsumedEvents
+) : DeclarationEvents<EnumDescriptor>(header, consumed) {
 
     /**
      * Yields events for the given enum type.
@@ -59,36 +69,44 @@ internal class EnumEvents(header: ProtoFileHeader) : DeclarationEvents<EnumDescr
      */
     override suspend fun SequenceScope<EventMessage>.produceEvents(desc: EnumDescriptor) {
         val path = header.file
-        val enumType = desc.toEnumType().withAbsoluteFile(path)
+        val enumType by lazy { desc.toEnumType().withAbsoluteFile(path) }
         val typeName = desc.name()
-        yield(
-            enumDiscovered {
-                file = path
-                type = enumType
-            }
-        )
-        yield(
-            enumEntered {
-                file = path
-                type = typeName
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            enumOptionDiscovered {
-                file = path
-                subject = enumType
-                option = it
+        if (consumed.includes<EnumDiscovered>()) {
+            yield(
+                enumDiscovered {
+                    file = path
+                    type = enumType
+                }
+            )
+        }
+        if (consumed.includes<EnumEntered>()) {
+            yield(
+                enumEntered {
+                    file = path
+                    type = typeName
+                }
+            )
+        }
+        if (consumed.includes<EnumOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                enumOptionDiscovered {
+                    file = path
+                    subject = enumType
+                    option = it
+                }
             }
         }
         desc.values.forEach {
             produceConstantEvents(it)
         }
-        yield(
-            enumExited {
-                file = path
-                this.type = typeName
-            }
-        )
+        if (consumed.includes<EnumExited>()) {
+            yield(
+                enumExited {
+                    file = path
+                    this.type = typeName
+                }
+            )
+        }
     }
 
     /**
@@ -106,28 +124,34 @@ internal class EnumEvents(header: ProtoFileHeader) : DeclarationEvents<EnumDescr
         val name = constantName {
             value = desc.name
         }
-        val theConstant = buildConstant(desc, typeName)
+        val theConstant by lazy { buildConstant(desc, typeName) }
         val path = header.file
-        yield(
-            enumConstantEntered {
-                file = path
-                type = typeName
-                constant = theConstant
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            enumConstantOptionDiscovered {
-                file = path
-                subject = theConstant
-                option = it
-            }
+        if (consumed.includes<EnumConstantEntered>()) {
+            yield(
+                enumConstantEntered {
+                    file = path
+                    type = typeName
+                    constant = theConstant
+                }
+            )
         }
-        yield(
-            enumConstantExited {
-                file = path
-                type = typeName
-                constant = name
+        if (consumed.includes<EnumConstantOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                enumConstantOptionDiscovered {
+                    file = path
+                    subject = theConstant
+                    option = it
+                }
             }
-        )
+        }
+        if (consumed.includes<EnumConstantExited>()) {
+            yield(
+                enumConstantExited {
+                    file = path
+                    type = typeName
+                    constant = name
+                }
+            )
+        }
     }
 }
@@ -34,8 +34,14 @@ import io.spine.tools.compiler.ast.Documentation
 import io.spine.tools.compiler.ast.ProtoFileHeader
 import io.spine.tools.compiler.ast.event.FieldEntered
 import io.spine.tools.compiler.ast.event.FieldExited
+import io.spine.tools.compiler.ast.event.FieldOptionDiscovered
+import io.spine.tools.compiler.ast.event.MessageOptionDiscovered
 import io.spine.tools.compiler.ast.event.OneofGroupEntered
 import io.spine.tools.compiler.ast.event.OneofGroupExited
+import io.spine.tools.compiler.ast.event.OneofOptionDiscovered
+import io.spine.tools.compiler.ast.event.TypeDiscovered
+import io.spine.tools.compiler.ast.event.TypeEntered
+import io.spine.tools.compiler.ast.event.TypeExited
 import io.spine.tools.compiler.ast.event.fieldEntered
 import io.spine.tools.compiler.ast.event.fieldExited
 import io.spine.tools.compiler.ast.event.fieldOptionDiscovered
@@ -57,7 +63,10 @@ import io.spine.tools.compiler.protobuf.toMessageType
 /**
  * Produces events for a message.
  */
-internal class MessageEvents(header: ProtoFileHeader) : DeclarationEvents<Descriptor>(header) {
+internal class MessageEvents(
+    header: ProtoFileHeader,
+    consumed: ConsumedEvents
+) : DeclarationEvents<Descriptor>(header, consumed) {
 
     /**
      * Yields events for the given message type.
@@ -75,24 +84,30 @@ internal class MessageEvents(header: ProtoFileHeader) : DeclarationEvents<Descri
     ) {
         val typeName = desc.name()
         val path = header.file
-        val messageType = desc.toMessageType().withAbsoluteFile(path)
-        yield(
-            typeDiscovered {
-                file = path
-                type = messageType
-            }
-        )
-        yield(
-            typeEntered {
-                file = path
-                type = messageType.name
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            messageOptionDiscovered {
-                file = path
-                subject = messageType
-                option = it
+        val messageType by lazy { desc.toMessageType().withAbsoluteFile(path) }
+        if (consumed.includes<TypeDiscovered>()) {
+            yield(
+                typeDiscovered {
+                    file = path
+                    type = messageType
+                }
+            )
+        }
+        if (consumed.includes<TypeEntered>()) {
+            yield(
+                typeEntered {
+                    file = path
+                    type = typeName
+                }
+            )
+        }
+        if (consumed.includes<MessageOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                messageOptionDiscovered {
+                    file = path
+                    subject = messageType
+                    option = it
+                }
             }
         }
 
@@ -109,19 +124,21 @@ internal class MessageEvents(header: ProtoFileHeader) : DeclarationEvents<Descri
         }
 
         // Do not filter out nested enum types either.
-        val enums = EnumEvents(header)
+        val enums = EnumEvents(header, consumed)
         desc.enumTypes.forEach {
             enums.apply {
                 produceEvents(desc = it)
             }
         }
 
-        yield(
-            typeExited {
-                file = path
-                type = typeName
-            }
-        )
+        if (consumed.includes<TypeExited>()) {
+            yield(
+                typeExited {
+                    file = path
+                    type = typeName
+                }
+            )
+        }
     }
 
     /**
@@ -136,38 +153,46 @@ internal class MessageEvents(header: ProtoFileHeader) : DeclarationEvents<Descri
         desc: OneofDescriptor
     ) {
         val typeName = desc.containingType.name()
-        val documentation = Documentation.of(desc.containingType.file)
         val oneofName = desc.name()
-        val oneofGroup = oneofGroup {
-            name = oneofName
-            declaringType = typeName
-            doc = documentation.forOneof(desc)
+        val oneofGroup by lazy {
+            val documentation = Documentation.of(desc.containingType.file)
+            oneofGroup {
+                name = oneofName
+                declaringType = typeName
+                doc = documentation.forOneof(desc)
+            }
         }
         val path = header.file
-        yield(
-            oneofGroupEntered {
-                file = path
-                type = typeName
-                group = oneofGroup
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            oneofOptionDiscovered {
-                file = path
-                subject = oneofGroup
-                option = it
+        if (consumed.includes<OneofGroupEntered>()) {
+            yield(
+                oneofGroupEntered {
+                    file = path
+                    type = typeName
+                    group = oneofGroup
+                }
+            )
+        }
+        if (consumed.includes<OneofOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                oneofOptionDiscovered {
+                    file = path
+                    subject = oneofGroup
+                    option = it
+                }
             }
         }
         desc.fields.forEach {
             produceFieldEvents(it)
         }
-        yield(
-            oneofGroupExited {
-                file = path
-                type = typeName
-                group = oneofName
-            }
-        )
+        if (consumed.includes<OneofGroupExited>()) {
+            yield(
+                oneofGroupExited {
+                    file = path
+                    type = typeName
+                    group = oneofName
+                }
+            )
+        }
     }
 
     /**
@@ -184,30 +209,36 @@ internal class MessageEvents(header: ProtoFileHeader) : DeclarationEvents<Descri
     ) {
         val typeName = desc.containingType.name()
         val fieldName = desc.name()
-        val theField = desc.toField()
+        val theField by lazy { desc.toField() }
         val path = header.file
-        yield(
-            fieldEntered {
-                file = path
-                type = typeName
-                field = theField
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            fieldOptionDiscovered {
-                file = path
-                type = typeName
-                field = fieldName
-                subject = theField
-                option = it
-            }
+        if (consumed.includes<FieldEntered>()) {
+            yield(
+                fieldEntered {
+                    file = path
+                    type = typeName
+                    field = theField
+                }
+            )
         }
-        yield(
-            fieldExited {
-                file = path
-                type = typeName
-                field = fieldName
+        if (consumed.includes<FieldOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                fieldOptionDiscovered {
+                    file = path
+                    type = typeName
+                    field = fieldName
+                    subject = theField
+                    option = it
+                }
             }
-        )
+        }
+        if (consumed.includes<FieldExited>()) {
+            yield(
+                fieldExited {
+                    file = path
+                    type = typeName
+                    field = fieldName
+                }
+            )
+        }
     }
 }
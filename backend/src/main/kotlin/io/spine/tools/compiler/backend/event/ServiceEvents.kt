@@ -30,8 +30,13 @@ import com.google.protobuf.Descriptors.MethodDescriptor
 import com.google.protobuf.Descriptors.ServiceDescriptor
 import io.spine.base.EventMessage
 import io.spine.tools.compiler.ast.ProtoFileHeader
+import io.spine.tools.compiler.ast.event.RpcEntered
+import io.spine.tools.compiler.ast.event.RpcExited
+import io.spine.tools.compiler.ast.event.RpcOptionDiscovered
+import io.spine.tools.compiler.ast.event.ServiceDiscovered
 import io.spine.tools.compiler.ast.event.ServiceEntered
 import io.spine.tools.compiler.ast.event.ServiceExited
+import io.spine.tools.compiler.ast.event.ServiceOptionDiscovered
 import io.spine.tools.compiler.ast.event.rpcEntered
 import io.spine.tools.compiler.ast.event.rpcExited
 import io.spine.tools.compiler.ast.event.rpcOptionDiscovered
@@ -48,8 +53,10 @@ import io.spine.tools.compiler.protobuf.toService
 /**
  * Produces events for a service.
  */
-internal class ServiceEvents(header: ProtoFileHeader) :
-    DeclarationEvents<ServiceDescriptor>(header) {
+internal class ServiceEvents(
+    header: ProtoFileHeader,
+    consumed: ConsumedEvents
+) : DeclarationEvents<ServiceDescriptor>(header, consumed) {
 
     /**
      * Yields events for the given service.
@@ -63,36 +70,44 @@ internal class ServiceEvents(header: ProtoFileHeader) :
         desc: ServiceDescriptor
     ) {
         val path = header.file
-        val serviceType = desc.toService().withAbsoluteFile(path)
-        yield(
-            serviceDiscovered {
-                file = path
-                service = serviceType
-            }
-        )
+        val serviceType by lazy { desc.toService().withAbsoluteFile(path) }
+        if (consumed.includes<ServiceDiscovered>()) {
+            yield(
+                serviceDiscovered {
+                    file = path
+                    service = serviceType
+                }
+            )
+        }
         val serviceName = desc.name()
-        yield(
-            serviceEntered {
-                file = path
-                service = serviceName
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            serviceOptionDiscovered {
-                file = path
-                subject = serviceType
-                option = it
+        if (consumed.includes<ServiceEntered>()) {
+            yield(
+                serviceEntered {
+                    file = path
+                    service = serviceName
+                }
+            )
+        }
+        if (consumed.includes<ServiceOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                serviceOptionDiscovered {
+                    file = path
+                    subject = serviceType
+                    option = it
+                }
             }
         }
         desc.methods.forEach {
             produceRpcEvents(it)
         }
-        yield(
-            serviceExited {
-                file = path
-                service = serviceName
-            }
-        )
+        if (consumed.includes<ServiceExited>()) {
+            yield(
+                serviceExited {
+                    file = path
+                    service = serviceName
+                }
+            )
+        }
     }
 
     private suspend fun SequenceScope<EventMessage>.produceRpcEvents(
@@ -100,27 +115,33 @@ internal class ServiceEvents(header: ProtoFileHeader) :
     ) {
         val serviceName = desc.service.name()
         val path = header.file
-        val theRpc = buildRpc(desc, serviceName)
-        yield(
-            rpcEntered {
-                file = path
-                service = serviceName
-                rpc = theRpc
-            }
-        )
-        produceOptionEvents(desc.options, desc) {
-            rpcOptionDiscovered {
-                file = path
-                subject = theRpc
-                option = it
-            }
+        val theRpc by lazy { buildRpc(desc, serviceName) }
+        if (consumed.includes<RpcEntered>()) {
+            yield(
+                rpcEntered {
+                    file = path
+                    service = serviceName
+                    rpc = theRpc
+                }
+            )
         }
-        yield(
-            rpcExited {
-                file = path
-                service = serviceName
-                rpc = theRpc.name
+        if (consumed.includes<RpcOptionDiscovered>()) {
+            produceOptionEvents(desc.options, desc) {
+                rpcOptionDiscovered {
+                    file = path
+                    subject = theRpc
+                    option = it
+                }
             }
-        )
+        }
+        if (consumed.includes<RpcExited>()) {
+            yield(
+                rpcExited {
+                    file = path
+                    service = serviceName
+                    rpc = theRpc.name
+                }
+            )
+        }
     }
 }
@@ -56,7 +56,10 @@ import io.spine.tools.compiler.ast.toAbsoluteFile
 import io.spine.tools.compiler.ast.toType
 import io.spine.tools.compiler.backend.event.CompilerEvents
 import io.spine.tools.compiler.context.CodegenContext
+import io.spine.tools.compiler.context.allStates
+import io.spine.tools.compiler.context.stateById
 import io.spine.tools.compiler.protobuf.file
+import io.spine.tools.compiler.render.InsertedPoints
 import io.spine.tools.compiler.test.DoctorProto
 import io.spine.tools.compiler.test.PhDProto
 import io.spine.tools.compiler.test.XtraOptsProto
@@ -223,4 +226,82 @@ class CodeGenerationContextSpec {
             option.value.unpack(StringValue::class.java).value shouldContain "please"
         }
     }
+
+    @Nested
+    inner class `serve frozen views from the snapshot` {
+
+        private lateinit var context: CodeGenerationContext
+
+        @BeforeEach
+        fun freezeViews() {
+            val pipelineId = Pipeline.generateId()
+            context = CodeGenerationContext(pipelineId)
+            emitCompilerEvents(pipelineId)
+            context.freeze(stableStates(CodeGenerationContext.DEFAULT_VIEWS, emptyList()))
+        }
+
+        @AfterEach
+        fun closeContext() {
+            context.close()
+        }
+
+        @Test
+        fun `with the same states as queried from the context`() {
+            val queried = context.select(ProtobufSourceFile::class.java).all()
+
+            context.allStates(ProtobufSourceFile::class.java) shouldBe queried
+        }
+
+        @Test
+        fun `indexed by their IDs`() {
+            val path = typeSystem.findAbsolute(DoctorProto.getDescriptor())!!.toAbsoluteFile()
+
+            val found = context.stateById(ProtobufSourceFile::class.java, path)
+
+            found?.file shouldBe path
+        }
+
+        @Test
+        fun `except for views changed during rendering`() {
+            context.snapshot!!.covers(InsertedPoints::class.java) shouldBe false
+        }
+    }
+
+    @Nested
+    inner class `measure the footprint of views` {
+
+        private lateinit var context: CodeGenerationContext
+
+        @BeforeEach
+        fun emitEvents() {
+            val pipelineId = Pipeline.generateId()
+            context = CodeGenerationContext(pipelineId)
+            emitCompilerEvents(pipelineId)
+        }
+
+        @AfterEach
+        fun closeContext() {
+            context.close()
+        }
+
+        @Test
+        fun `counting the states and their serialized size`() {
+            val states = context.select(ProtobufSourceFile::class.java).all()
+
+            val footprint = ViewFootprint.of(context, ProtobufSourceFile::class.java)
+
+            footprint.count shouldBe states.size
+            footprint.bytes shouldBe states.sumOf { it.serializedSize.toLong() }
+        }
+
+        @Test
+        fun `reporting the largest views first`() {
+            val types = viewStates(CodeGenerationContext.DEFAULT_VIEWS, emptyList())
+
+            val report = context.footprintReport(types, ViewHeap.start())
+
+            val largest = types.maxBy { ViewFootprint.of(context, it).bytes }
+            report.lines()[1] shouldContain largest.simpleName
+        }
+    }
 }
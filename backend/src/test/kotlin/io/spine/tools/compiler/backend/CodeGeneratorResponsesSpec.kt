@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.tools.compiler.render.CoordinatesFactory.Companion.startOfFile
+import io.spine.tools.compiler.render.InsertionPoint
+import io.spine.tools.compiler.render.ProtocInsertionPoint
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.compiler.render.TextCoordinates
+import java.nio.file.Path
+import kotlin.io.path.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.div
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`toCodeGeneratorResponse()` should")
+internal class CodeGeneratorResponsesSpec {
+
+    private lateinit var sources: SourceFileSet
+
+    @BeforeEach
+    fun createSources(@TempDir dir: Path) {
+        val input = dir / "input"
+        input.createDirectories()
+        (input / GENERATED).writeText("""
+            class Journey {
+                // @@protoc_insertion_point(class_scope:Journey)
+
+                class Stage {
+                }
+            }
+        """.trimIndent())
+        sources = SourceFileSet.create(input, dir / "output")
+    }
+
+    @Test
+    fun `pass the whole code of created files`() {
+        sources.createFile(Path("Created.java"), "class Created {}")
+
+        val response = listOf(sources).toCodeGeneratorResponse()
+
+        response.fileList shouldHaveSize 1
+        with(response.fileList.first()) {
+            name shouldBe "Created.java"
+            hasInsertionPoint() shouldBe false
+            content shouldBe "class Created {}"
+        }
+    }
+
+    @Test
+    fun `not pass unchanged files`() {
+        listOf(sources).toCodeGeneratorResponse().fileList.shouldBeEmpty()
+    }
+
+    @Test
+    fun `pass the code added to existing files as insertions`() {
+        sources.file(Path(GENERATED))
+            .at(ProtocInsertionPoint("class_scope:Journey"))
+            .withExtraIndentation(1)
+            .add("private int stage;", "private int stops;")
+
+        val response = listOf(sources).toCodeGeneratorResponse()
+
+        response.fileList shouldHaveSize 1
+        with(response.fileList.first()) {
+            name shouldBe GENERATED
+            insertionPoint shouldBe "class_scope:Journey"
+            content shouldBe "private int stage;\nprivate int stops;\n"
+        }
+    }
+
+    @Test
+    fun `pass the inserted blank lines equal to the code after the marker`() {
+        sources.file(Path(GENERATED))
+            .at(ProtocInsertionPoint("class_scope:Journey"))
+            .withExtraIndentation(1)
+            .add("private int stage;", "", "private int stops;")
+
+        val response = listOf(sources).toCodeGeneratorResponse()
+
+        response.fileList shouldHaveSize 1
+        with(response.fileList.first()) {
+            insertionPoint shouldBe "class_scope:Journey"
+            content shouldBe "private int stage;\n\nprivate int stops;\n"
+        }
+    }
+
+    @Test
+    fun `pass the inserted trailing lines equal to the code after the marker`() {
+        sources.file(Path(GENERATED))
+            .at(ProtocInsertionPoint("class_scope:Journey"))
+            .withExtraIndentation(1)
+            .add("private int stage;", "", "class Stage {")
+
+        val response = listOf(sources).toCodeGeneratorResponse()
+
+        response.fileList shouldHaveSize 1
+        with(response.fileList.first()) {
+            insertionPoint shouldBe "class_scope:Journey"
+            content shouldBe "private int stage;\n\nclass Stage {\n"
+        }
+    }
+
+    @Test
+    fun `reject the code added outside insertion points`() {
+        sources.file(Path(GENERATED))
+            .at(FileStart)
+            .add("// Added.")
+
+        val error = assertThrows<IllegalStateException> {
+            listOf(sources).toCodeGeneratorResponse()
+        }
+        error.message shouldContain GENERATED
+    }
+
+    @Test
+    fun `reject modified code of existing files`() {
+        val file = sources.file(Path(GENERATED))
+        file.overwrite(file.code().replace("Journey {", "Voyage {"))
+
+        assertThrows<IllegalStateException> {
+            listOf(sources).toCodeGeneratorResponse()
+        }
+    }
+}
+
+private const val GENERATED = "Journey.java"
+
+/**
+ * The point at the start of a file.
+ */
+private object FileStart : InsertionPoint {
+
+    override val label: String = ""
+
+    override fun locate(text: String): Set<TextCoordinates> = setOf(startOfFile)
+}
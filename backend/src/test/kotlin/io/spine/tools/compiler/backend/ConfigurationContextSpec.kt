@@ -77,6 +77,19 @@ class ConfigurationContextSpec {
         checkEvent(event)
     }
 
+    @Test
+    fun `emit a batch of events in order`() {
+        val events = (1..10).map { index ->
+            settingsFileDiscovered {
+                file = file { path = "foo/$index.bin" }
+            }
+        }
+        configurationContext.use {
+            it.emitted(events.asSequence())
+        }
+        subscriber.receivedEvents shouldContainExactly events
+    }
+
     private fun checkEvent(event: EventMessage) {
         configurationContext.use {
             it.emitted(event)
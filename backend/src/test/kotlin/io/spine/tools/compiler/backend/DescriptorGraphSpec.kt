@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import com.google.protobuf.compiler.codeGeneratorRequest
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.spine.tools.compiler.test.DoctorProto
+import io.spine.type.KnownTypes
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`DescriptorGraph` should")
+internal class DescriptorGraphSpec {
+
+    private val doctorFile = DoctorProto.getDescriptor()
+
+    private val request = codeGeneratorRequest {
+        // Gather files of all known types to simplify resolving dependencies.
+        val allFiles = KnownTypes.instance()
+            .asTypeSet()
+            .messageTypes()
+            .map { it.descriptor().file.toProto() }
+            .distinct()
+        fileToGenerate += doctorFile.name
+        protoFile.addAll(allFiles)
+    }
+
+    @Test
+    fun `build descriptors only once`() {
+        val graph = DescriptorGraph(request)
+        graph.files shouldBeSameInstanceAs graph.files
+        graph.files.map { it.name }.toSet() shouldBe request.protoFileList.map { it.name }.toSet()
+    }
+
+    @Test
+    fun `share source files between the consumers`() {
+        val graph = DescriptorGraph(request)
+        val file = graph.files.first { it.name == doctorFile.name }
+        graph.sourceFile(file) shouldBeSameInstanceAs graph.sourceFile(file)
+    }
+
+    @Test
+    fun `tell which files to generate`() {
+        val graph = DescriptorGraph(request)
+        graph.filesToGenerate shouldBe setOf(doctorFile.name)
+    }
+
+    @Test
+    fun `find files affected by changes in imported files`() {
+        val graph = DescriptorGraph(request)
+        val imported = doctorFile.dependencies.first().name
+
+        graph.affectedBy(setOf(imported)) shouldBe setOf(doctorFile.name)
+        graph.affectedBy(setOf(doctorFile.name)) shouldBe setOf(doctorFile.name)
+        graph.affectedBy(setOf("unrelated.proto")) shouldBe emptySet()
+    }
+}
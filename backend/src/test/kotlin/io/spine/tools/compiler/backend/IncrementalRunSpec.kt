@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import com.google.protobuf.DescriptorProtos.FileDescriptorProto
+import com.google.protobuf.Descriptors.FileDescriptor
+import com.google.protobuf.compiler.codeGeneratorRequest
+import io.kotest.matchers.shouldBe
+import io.spine.server.query.Querying
+import io.spine.server.query.select
+import io.spine.testing.assertExists
+import io.spine.testing.compiler.pipelineParams
+import io.spine.testing.compiler.withRequestFile
+import io.spine.testing.compiler.withRoots
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.ast.toAbsoluteFile
+import io.spine.tools.compiler.render.Renderer
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.compiler.test.DoctorProto
+import io.spine.tools.compiler.test.InternalType
+import io.spine.tools.compiler.test.PhDProto
+import io.spine.tools.compiler.test.TestPlugin
+import java.nio.file.Path
+import kotlin.io.path.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.div
+import kotlin.io.path.readText
+import kotlin.io.path.writeBytes
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`Pipeline` in the incremental mode should")
+internal class IncrementalRunSpec {
+
+    private lateinit var sandbox: Path
+    private lateinit var srcRoot: Path
+    private lateinit var targetRoot: Path
+
+    private val doctor = DoctorProto.getDescriptor().toProto()
+    private val phd = PhDProto.getDescriptor().toProto()
+
+    /**
+     * The files imported by the [doctor] and [phd] files, directly or transitively.
+     *
+     * The dependencies go before the files importing them.
+     */
+    private val dependencies: List<FileDescriptorProto> by lazy {
+        val ordered = LinkedHashSet<FileDescriptor>()
+        fun visit(file: FileDescriptor) {
+            if (file !in ordered) {
+                file.dependencies.forEach { visit(it) }
+                ordered.add(file)
+            }
+        }
+        DoctorProto.getDescriptor().dependencies.forEach { visit(it) }
+        PhDProto.getDescriptor().dependencies.forEach { visit(it) }
+        ordered.map { it.toProto() }
+    }
+
+    @BeforeEach
+    fun prepareSources(@TempDir sandbox: Path) {
+        this.sandbox = sandbox
+        srcRoot = (sandbox / "src").createDirectories()
+        targetRoot = (sandbox / "target").createDirectories()
+        (srcRoot / "Journey.java").writeText(protocCode(doctor, "class Journey {}"))
+        (srcRoot / "Paper.java").writeText(protocCode(phd, "class Paper {}"))
+    }
+
+    @Test
+    fun `keep the output generated for the unaffected proto files`() {
+        run(doctor, phd)
+        val journey = (targetRoot / "Journey.java").readText()
+        journey shouldBe protocCode(doctor, "class Journey {}") + touchedBy("Journey")
+
+        val edited = phd.toBuilder()
+            .apply { optionsBuilder.deprecated = true }
+            .build()
+        run(doctor, edited)
+
+        (targetRoot / "Journey.java").readText() shouldBe journey
+        assertExists(targetRoot / "JourneyInternal.java")
+        (targetRoot / "Paper.java").readText() shouldBe
+                protocCode(phd, "class Paper {}") + touchedBy("Paper")
+        assertExists(targetRoot / "PaperInternal.java")
+    }
+
+    /**
+     * Runs the pipeline in the incremental mode for the given proto files.
+     */
+    private fun run(vararg files: FileDescriptorProto) {
+        val request = codeGeneratorRequest {
+            protoFile += dependencies
+            files.forEach {
+                protoFile += it
+                fileToGenerate += it.name
+            }
+        }
+        val requestFile = sandbox / "request.bin"
+        requestFile.writeBytes(request.toByteArray())
+        val compiledProtos = createTypeSystem(request).compiledProtoFiles.files
+        val params = pipelineParams {
+            addAllCompiledProto(compiledProtos.map { it.toAbsoluteFile() })
+            withRequestFile(requestFile)
+            withRoots(srcRoot, targetRoot)
+            incrementalState = (sandbox / "incremental" / "main.state").toAbsoluteFile()
+        }
+        Pipeline(params = params, plugin = TestPlugin(InternalTypeRenderer()))()
+    }
+}
+
+/**
+ * Obtains the code of a file generated by `protoc` for the given proto [file].
+ */
+private fun protocCode(file: FileDescriptorProto, code: String): String =
+    "// source: ${file.name}\n$code"
+
+private fun touchedBy(type: String) = "\n// Touched for `$type`."
+
+/**
+ * Marks the file generated by `protoc` for each of [InternalType]s, and creates
+ * a new file for the type with the same `source:` comment.
+ */
+private class InternalTypeRenderer : Renderer<Java>(Java) {
+
+    override fun render(sources: SourceFileSet) {
+        val types = (this as Querying).select<InternalType>().all()
+        types.forEach { type ->
+            val name = type.name.simpleName
+            val file = sources.find(Path("$name.java")) ?: return@forEach
+            val header = file.lines().first()
+            file.overwrite(file.code() + touchedBy(name))
+            sources.createFile(Path("${name}Internal.java"), "$header\nclass ${name}Internal {}")
+        }
+    }
+}
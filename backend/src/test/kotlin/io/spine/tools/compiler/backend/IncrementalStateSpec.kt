@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import io.kotest.matchers.shouldBe
+import java.nio.file.Path
+import kotlin.io.path.div
+import kotlin.io.path.writeText
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`IncrementalState` should")
+internal class IncrementalStateSpec {
+
+    private val state = IncrementalState(
+        fingerprint = "f1",
+        protoDigests = mapOf("a.proto" to "1", "b.proto" to "2"),
+        inputDigests = mapOf("/in/A.java" to "4"),
+        outputs = mapOf(
+            "/out/A.java" to IncrementalState.Output("3", "a.proto"),
+            "/out/Created.java" to IncrementalState.Output("5", null)
+        )
+    )
+
+    @Test
+    fun `survive writing and reading`(@TempDir dir: Path) {
+        val file = dir / "state" / "main.state"
+        state.writeTo(file)
+        IncrementalState.read(file) shouldBe state
+    }
+
+    @Test
+    fun `not read a missing or malformed file`(@TempDir dir: Path) {
+        IncrementalState.read(dir / "missing.state") shouldBe null
+        val malformed = dir / "malformed.state"
+        malformed.writeText("something else")
+        IncrementalState.read(malformed) shouldBe null
+    }
+
+    @Test
+    fun `tell changed, added, and removed files`() {
+        val next = IncrementalState(
+            fingerprint = "f1",
+            protoDigests = mapOf("a.proto" to "1", "b.proto" to "22", "c.proto" to "4")
+        )
+        next.changedSince(state) shouldBe setOf("b.proto", "c.proto")
+        state.changedSince(next) shouldBe setOf("b.proto", "c.proto")
+
+        val withoutB = IncrementalState("f1", mapOf("a.proto" to "1"))
+        withoutB.changedSince(state) shouldBe setOf("b.proto")
+    }
+}
@@ -451,6 +451,36 @@ internal class PipelineSpec {
             assertExists(writtenFile)
             assertTextIn(writtenFile).contains(expectedContent)
         }
+
+        @Test
+        fun `render source sets concurrently when asked to`(
+            @TempDir source2: Path,
+            @TempDir destination1: Path,
+            @TempDir destination2: Path
+        ) {
+            checkTemps(source2, destination1, destination2)
+
+            val secondSourceFile = source2 / "second.txt"
+            secondSourceFile.createFile().writeText("foo bar")
+
+            val local = pipelineParams {
+                addAbsoluteCompiledProtoPaths()
+                withRoots(srcRoot, destination1)
+                withRoots(source2, destination2)
+                withRequestFile(codegenRequestFile)
+                parallelRendering = true
+            }
+
+            Pipeline(
+                params = local,
+                additionalPlugins = listOf(TestPlugin(), RenderingTestbed(renderer))
+            )()
+
+            assertTextIn(destination1.resolve(targetFile.name))
+                .isEqualTo("_Journey worth taking")
+            assertTextIn(destination2.resolve(secondSourceFile.name))
+                .isEqualTo(secondSourceFile.readText())
+        }
     }
 
     @Nested
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend
+
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.collections.shouldNotContain
+import io.spine.core.External
+import io.spine.core.Subscribe
+import io.spine.tools.compiler.ast.ProtobufSourceFile
+import io.spine.tools.compiler.ast.TypeName
+import io.spine.tools.compiler.plugin.Plugin
+import io.spine.tools.compiler.plugin.View
+import io.spine.tools.compiler.render.InsertedPoints
+import io.spine.tools.compiler.test.InternalMessageView
+import io.spine.tools.compiler.test.InternalType
+import io.spine.tools.compiler.test.ProjectCreated
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`stableStates()` should")
+internal class StableViewsSpec {
+
+    @Test
+    fun `include the views consuming only the compiler events`() {
+        val states = stableStates(
+            CodeGenerationContext.DEFAULT_VIEWS,
+            listOf(ViewPlugin(InternalMessageView::class.java))
+        )
+
+        states shouldContain ProtobufSourceFile::class.java
+        states shouldContain InternalType::class.java
+    }
+
+    @Test
+    fun `exclude the views consuming the events emitted during rendering`() {
+        val states = stableStates(CodeGenerationContext.DEFAULT_VIEWS, emptyList())
+
+        states shouldNotContain InsertedPoints::class.java
+    }
+
+    @Test
+    fun `exclude the views consuming the events of plugins`() {
+        val states = stableStates(emptyList(), listOf(ViewPlugin(ProjectTypeView::class.java)))
+
+        states shouldNotContain InternalType::class.java
+    }
+}
+
+private class ViewPlugin(view: Class<out View<*, *, *>>) : Plugin(views = setOf(view))
+
+/**
+ * A view consuming the event which is not emitted by the Protobuf compiler.
+ */
+private class ProjectTypeView : View<TypeName, InternalType, InternalType.Builder>() {
+
+    @Subscribe
+    fun on(@External e: ProjectCreated) = Unit
+}
@@ -67,6 +67,8 @@ import io.spine.tools.compiler.ast.messageType
 import io.spine.tools.compiler.ast.toJava
 import io.spine.tools.compiler.ast.typeName
 import io.spine.tools.compiler.backend.createTypeSystem
+import io.spine.tools.compiler.test.DeletedTypeView
+import io.spine.tools.compiler.test.DocilePlugin
 import io.spine.tools.compiler.test.DoctorProto
 import io.spine.type.KnownTypes
 import kotlin.reflect.KClass
@@ -117,6 +119,18 @@ class CompilerEventsSpec {
         events.distinct() shouldContainExactly events
     }
 
+    @Test
+    fun `produce only the consumed events`() {
+        val request = createRequest()
+        val typeSystem = createTypeSystem(request)
+        val plugin = DocilePlugin(views = setOf(DeletedTypeView::class.java))
+        val consumed = ConsumedEvents.of(emptyList(), listOf(plugin))
+
+        val parsed = CompilerEvents.parse(request, typeSystem, { true }, consumed).toList()
+
+        parsed shouldContainExactly events.filterIsInstance<TypeDiscovered>()
+    }
+
     @Nested
     inner class `produce file events` {
 
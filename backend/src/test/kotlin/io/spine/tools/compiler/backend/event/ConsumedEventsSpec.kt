@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.backend.event
+
+import io.kotest.matchers.shouldBe
+import io.spine.server.BoundedContextBuilder
+import io.spine.tools.compiler.ast.event.FieldEntered
+import io.spine.tools.compiler.ast.event.FileEntered
+import io.spine.tools.compiler.ast.event.TypeDiscovered
+import io.spine.tools.compiler.backend.ProtoSourceFileView
+import io.spine.tools.compiler.plugin.Plugin
+import io.spine.tools.compiler.test.DeletedTypeView
+import io.spine.tools.compiler.test.DocilePlugin
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ConsumedEvents` should")
+internal class ConsumedEventsSpec {
+
+    @Test
+    fun `accept all the events by default`() {
+        ConsumedEvents.ALL.accepts(FieldEntered::class.java) shouldBe true
+    }
+
+    @Test
+    fun `collect events subscribed by the views of plugins`() {
+        val plugin = DocilePlugin(views = setOf(DeletedTypeView::class.java))
+        val consumed = ConsumedEvents.of(emptyList(), listOf(plugin))
+
+        consumed.accepts(TypeDiscovered::class.java) shouldBe true
+        consumed.accepts(FieldEntered::class.java) shouldBe false
+    }
+
+    @Test
+    fun `collect events subscribed by the given views`() {
+        val consumed = ConsumedEvents.of(listOf(ProtoSourceFileView::class.java), emptyList())
+
+        consumed.accepts(FileEntered::class.java) shouldBe true
+        consumed.accepts(FieldEntered::class.java) shouldBe false
+    }
+
+    @Test
+    fun `accept all the events if a plugin extends the context`() {
+        val consumed = ConsumedEvents.of(emptyList(), listOf(ExtendingPlugin()))
+
+        consumed.accepts(FieldEntered::class.java) shouldBe true
+    }
+}
+
+private class ExtendingPlugin : Plugin() {
+
+    override fun extend(context: BoundedContextBuilder) {
+        // Components added here are not known to the pipeline.
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import io.spine.testing.compiler.RenderingTestbed
+import io.spine.tools.compiler.test.NonVoidMethodPrinter
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit.MILLISECONDS
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+
+/**
+ * Measures printing insertion points into Java sources.
+ *
+ * The printers are run by the [Pipeline][io.spine.tools.compiler.backend.Pipeline]
+ * because they need a code generation context. The measured time includes
+ * reading and writing the sources.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+open class InsertionPointPrinterBenchmark {
+
+    /**
+     * The number of Java classes in the source set.
+     */
+    @Param("1", "10", "100")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var inputRoot: Path
+    private lateinit var pipelineRun: PipelineRun
+
+    @Setup(Level.Trial)
+    fun writeSources() {
+        inputRoot = JavaSources.writeClasses(size)
+    }
+
+    @TearDown(Level.Trial)
+    fun deleteSources() {
+        inputRoot.toFile().deleteRecursively()
+    }
+
+    @Setup(Level.Invocation)
+    fun prepareRun() {
+        pipelineRun = PipelineRun(inputRoot)
+    }
+
+    @TearDown(Level.Invocation)
+    fun deleteOutput() {
+        pipelineRun.delete()
+    }
+
+    @Benchmark
+    fun print() {
+        pipelineRun.run(listOf(RenderingTestbed(MethodStartPrinter(), NonVoidMethodPrinter())))
+    }
+}
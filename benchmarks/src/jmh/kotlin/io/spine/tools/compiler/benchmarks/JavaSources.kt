@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import io.spine.tools.code.Java
+import io.spine.tools.compiler.jvm.render.JavaRenderer
+import io.spine.tools.compiler.render.InsertionPoint
+import io.spine.tools.compiler.render.InsertionPointPrinter
+import io.spine.tools.compiler.render.SourceFileSet
+import io.spine.tools.compiler.render.TextCoordinates
+import java.nio.file.Path
+import kotlin.io.path.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createTempDirectory
+import kotlin.io.path.writeText
+
+/**
+ * Generates Java sources for the benchmarks.
+ *
+ * Each class has [METHODS_PER_CLASS] methods. The code is deliberately
+ * formatted inconsistently, so that formatters have some work to do.
+ */
+internal object JavaSources {
+
+    /**
+     * The number of methods in each generated class.
+     */
+    const val METHODS_PER_CLASS = 20
+
+    /**
+     * The comment which starts the body of each method.
+     */
+    const val METHOD_START = "// Method start."
+
+    /**
+     * Obtains the path of the class with the given index relative to a source root.
+     */
+    fun path(index: Int): Path = Path("io/spine/compiler/bench/Class$index.java")
+
+    /**
+     * Generates the code of the class with the given index.
+     */
+    fun code(index: Int): String = buildString {
+        appendLine("package io.spine.compiler.bench;")
+        appendLine()
+        appendLine("public final class Class$index {")
+        repeat(METHODS_PER_CLASS) { method ->
+            appendLine("private int value$method = $method;")
+            appendLine("  public int method$method(int argument){")
+            appendLine("        $METHOD_START")
+            appendLine("    if (argument>value$method) { return argument; }")
+            appendLine("      return value$method+argument;")
+            appendLine("}")
+        }
+        appendLine("}")
+    }
+
+    /**
+     * Writes the given number of classes into a new temporary source root.
+     */
+    fun writeClasses(count: Int): Path {
+        val root = createTempDirectory("compiler-bench-sources")
+        repeat(count) {
+            val file = root.resolve(path(it))
+            file.parent.createDirectories()
+            file.writeText(code(it))
+        }
+        return root
+    }
+}
+
+/**
+ * Creates the given number of classes in the processed source set.
+ *
+ * The created files are changed as a whole, so that formatters process
+ * all their lines.
+ */
+internal class GenerateClasses(private val count: Int) : JavaRenderer() {
+
+    override fun render(sources: SourceFileSet) {
+        repeat(count) {
+            sources.createFile(JavaSources.path(it), JavaSources.code(it))
+        }
+    }
+}
+
+/**
+ * Points at the start of the body of each method of the [generated][JavaSources] classes.
+ */
+internal object MethodStart : InsertionPoint {
+
+    override val label: String = "method_start"
+
+    override fun locate(text: String): Set<TextCoordinates> =
+        text.lineSequence()
+            .withIndex()
+            .filter { it.value.contains(JavaSources.METHOD_START) }
+            .map { atLine(it.index + 1) }
+            .toSet()
+}
+
+/**
+ * Prints the [MethodStart] insertion points.
+ */
+internal class MethodStartPrinter : InsertionPointPrinter<Java>(Java, setOf(MethodStart))
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import io.spine.testing.compiler.pipelineParams
+import io.spine.testing.compiler.withRoots
+import io.spine.testing.compiler.withSettingsDir
+import io.spine.tools.compiler.backend.Pipeline
+import io.spine.tools.compiler.plugin.Plugin
+import java.nio.file.Path
+import kotlin.io.path.createTempDirectory
+
+/**
+ * Directories of a single run of the [Pipeline] in a benchmark.
+ *
+ * The output and settings directories are created anew for each run,
+ * so that the runs do not affect each other.
+ *
+ * @param inputRoot The source root processed by the pipeline.
+ */
+internal class PipelineRun(private val inputRoot: Path) {
+
+    private val outputRoot: Path = createTempDirectory("compiler-bench-output")
+    private val settingsDir: Path = createTempDirectory("compiler-bench-settings")
+
+    /**
+     * Runs the pipeline with the given plugins.
+     */
+    fun run(plugins: List<Plugin>) {
+        val params = pipelineParams {
+            withRoots(inputRoot, outputRoot)
+            withSettingsDir(settingsDir)
+        }
+        Pipeline(params = params, additionalPlugins = plugins)()
+    }
+
+    /**
+     * Deletes the directories created for this run.
+     */
+    fun delete() {
+        outputRoot.toFile().deleteRecursively()
+        settingsDir.toFile().deleteRecursively()
+    }
+}
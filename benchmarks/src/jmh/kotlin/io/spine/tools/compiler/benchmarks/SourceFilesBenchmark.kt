@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.benchmarks
+
+import io.spine.tools.compiler.render.SourceFile
+import io.spine.tools.compiler.render.SourceFileSet
+import java.nio.file.Path
+import java.util.concurrent.TimeUnit.MILLISECONDS
+import kotlin.io.path.createTempDirectory
+import org.openjdk.jmh.annotations.Benchmark
+import org.openjdk.jmh.annotations.BenchmarkMode
+import org.openjdk.jmh.annotations.Level
+import org.openjdk.jmh.annotations.Mode
+import org.openjdk.jmh.annotations.OutputTimeUnit
+import org.openjdk.jmh.annotations.Param
+import org.openjdk.jmh.annotations.Scope
+import org.openjdk.jmh.annotations.Setup
+import org.openjdk.jmh.annotations.State
+import org.openjdk.jmh.annotations.TearDown
+import org.openjdk.jmh.infra.Blackhole
+
+/**
+ * Measures reading, changing, and writing source files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(MILLISECONDS)
+open class SourceFilesBenchmark {
+
+    /**
+     * The number of Java classes in the source set.
+     */
+    @Param("10", "100", "1000")
+    @JvmField
+    var size: Int = 0
+
+    private lateinit var inputRoot: Path
+    private lateinit var outputRoot: Path
+
+    @Setup(Level.Trial)
+    fun writeSources() {
+        inputRoot = JavaSources.writeClasses(size)
+    }
+
+    @TearDown(Level.Trial)
+    fun deleteSources() {
+        inputRoot.toFile().deleteRecursively()
+    }
+
+    @Setup(Level.Invocation)
+    fun prepareInvocation() {
+        outputRoot = createTempDirectory("compiler-bench-output")
+    }
+
+    @TearDown(Level.Invocation)
+    fun deleteOutput() {
+        outputRoot.toFile().deleteRecursively()
+    }
+
+    /**
+     * Creates a source set and reads the code of all its files.
+     */
+    @Benchmark
+    fun create(blackhole: Blackhole) {
+        val sources = SourceFileSet.create(inputRoot, outputRoot)
+        sources.forEach { blackhole.consume(it.code()) }
+    }
+
+    /**
+     * Creates a source set, changes all its files, and writes them.
+     */
+    @Benchmark
+    fun write(blackhole: Blackhole) {
+        val sources = SourceFileSet.create(inputRoot, outputRoot)
+        sources.forEach { it.overwrite(it.code() + "\n// Changed.\n") }
+        blackhole.consume(sources.write())
+    }
+
+    /**
+     * Adds lines at each of the [MethodStart] insertion points of all the files,
+     * as many times per file as the [Insertions.count] tells.
+     */
+    @Benchmark
+    fun addAtLine(insertions: Insertions, blackhole: Blackhole) {
+        insertions.files.forEach { file ->
+            repeat(insertions.count) {
+                file.at(MethodStart).add("int local$it = argument;")
+            }
+            blackhole.consume(file)
+        }
+    }
+
+    /**
+     * The files to which the code is added by [addAtLine].
+     *
+     * The files are created anew for each invocation, so that the insertions
+     * do not accumulate. Several insertions per file make the measured work
+     * outweigh the overhead of the per-invocation setup.
+     */
+    @State(Scope.Thread)
+    open class Insertions {
+
+        /**
+         * The number of times the code is added to each file.
+         */
+        @Param("1", "10", "100")
+        @JvmField
+        var count: Int = 0
+
+        lateinit var files: List<SourceFile<*>>
+
+        @Setup(Level.Invocation)
+        fun createFiles(benchmark: SourceFilesBenchmark) {
+            files = List(benchmark.size) {
+                SourceFile.fromCode(JavaSources.path(it), JavaSources.code(it))
+            }
+        }
+    }
+}
@@ -141,6 +141,16 @@ val koverVersion = "0.9.8"
  */
 val shadowVersion = "9.4.1"
 
+/**
+ * The version of the JMH Gradle Plugin.
+ *
+ * Please keep in sync with [io.spine.dependency.test.Jmh.GradlePlugin.version].
+ *
+ * @see <a href="https://github.com/melix/jmh-gradle-plugin/releases">
+ *     JMH Gradle Plugin releases</a>
+ */
+val jmhPluginVersion = "0.7.3"
+
 /**
  * The version of JUnit used to test the build scripts.
  *
@@ -194,6 +204,7 @@ dependencies {
         "com.gradleup.shadow:shadow-gradle-plugin:$shadowVersion",
         "io.gitlab.arturbosch.detekt:detekt-gradle-plugin:$detektVersion",
         "io.kotest:kotest-gradle-plugin:$kotestJvmPluginVersion",
+        "me.champeau.jmh:jmh-gradle-plugin:$jmhPluginVersion",
         // https://github.com/srikanth-lingala/zip4j
         "net.lingala.zip4j:zip4j:2.10.0",
         "net.ltgt.gradle:gradle-errorprone-plugin:$errorPronePluginVersion",
@@ -226,9 +226,11 @@ fun Project.configureTaskDependencies() {
 }
 
 /**
- * Obtains all modules names of which do not have `"-tests"` as the suffix.
+ * Obtains all modules names of which do not have `"-tests"` as the suffix,
+ * and which are not the `benchmarks` module.
  *
- * By convention, such modules are for integration tests and should be treated differently.
+ * By convention, such modules are for integration tests and benchmarks,
+ * and should be treated differently.
  */
 val Project.productionModules: Iterable<Project>
     get() = rootProject.subprojects.filterNot { subproject ->
@@ -236,6 +238,7 @@ val Project.productionModules: Iterable<Project>
             contains("-tests")
                     || contains("test-fixtures")
                     || contains("integration-tests")
+                    || this == "benchmarks"
         }
     }
 
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.dependency.test
+
+/**
+ * Java Microbenchmark Harness.
+ *
+ * @see <a href="https://github.com/openjdk/jmh">JMH GitHub repository</a>
+ */
+@Suppress("unused", "ConstPropertyName")
+object Jmh {
+    const val version = "1.37"
+    const val group = "org.openjdk.jmh"
+    const val core = "$group:jmh-core:$version"
+
+    /**
+     * The Gradle plugin for running JMH benchmarks.
+     *
+     * @see <a href="https://github.com/melix/jmh-gradle-plugin">JMH Gradle Plugin</a>
+     */
+    object GradlePlugin {
+        /**
+         * Please keep in sync with `jmhPluginVersion` in `buildSrc/build.gradle.kts`.
+         */
+        const val version = "0.7.3"
+        const val id = "me.champeau.jmh"
+        const val lib = "me.champeau.jmh:jmh-gradle-plugin:$version"
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+import io.spine.dependency.test.Jmh
+
+/**
+ * Configures a module with JMH benchmarks.
+ *
+ * The benchmarks reside in the `jmh` source set. They are run by the `jmh` task:
+ * ```
+ * ./gradlew :benchmarks:jmh
+ * ```
+ * The benchmarks of the internal API of a module, such as `backend`, reside in
+ * the `jmh` source set of that module and are run by its `jmh` task.
+ *
+ * The `jmhIncludes` project property narrows down the benchmarks to run
+ * by a regular expression matched against their names:
+ * ```
+ * ./gradlew :benchmarks:jmh -PjmhIncludes=CompilerEvents
+ * ```
+ * The results are written in the JSON format to `build/reports/jmh/results.json`,
+ * so that they can be compared between releases.
+ */
+plugins {
+    id("me.champeau.jmh")
+}
+
+jmh {
+    jmhVersion.set(Jmh.version)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("reports/jmh/results.json"))
+    humanOutputFile.set(layout.buildDirectory.file("reports/jmh/human.txt"))
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    failOnError.set(true)
+    findProperty("jmhIncludes")?.let {
+        includes.set(listOf(it.toString()))
+    }
+}
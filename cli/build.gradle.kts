@@ -105,6 +105,31 @@ tasks.getByName<CreateStartScripts>("startScripts") {
     (unixStartScriptGenerator as TemplateBasedScriptGenerator).template = template
 }
 
+/**
+ * Creates the script which `protoc` launches to run the Compiler as its plugin.
+ *
+ * The script has the name required by `protoc` for plugins and shares
+ * the classpath of the application.
+ */
+val protocPluginScripts by tasks.registering(CreateStartScripts::class) {
+    val startScripts = tasks.startScripts.get()
+    mainClass.set("io.spine.tools.compiler.cli.protoc.ProtocPlugin")
+    applicationName = "protoc-gen-$appName"
+    classpath = startScripts.classpath
+    outputDir = layout.buildDirectory.dir("protocPluginScripts").get().asFile
+    windowsStartScriptGenerator = ScriptGenerator { _, _ -> /* Do nothing. */ }
+    val template = resources.text.fromFile("$projectDir/protoc-plugin.template.py")
+    (unixStartScriptGenerator as TemplateBasedScriptGenerator).template = template
+}
+
+distributions.main {
+    contents {
+        from(protocPluginScripts) {
+            into("bin")
+        }
+    }
+}
+
 publishing {
     val pGroup = project.group.toString()
     val pVersion = project.version.toString()
@@ -0,0 +1,52 @@
+#!/usr/bin/env python3
+
+#
+# Copyright 2022, TeamDev. All rights reserved.
+#
+# Licensed under the Apache License, Version 2.0 (the "License");
+# you may not use this file except in compliance with the License.
+# You may obtain a copy of the License at
+#
+# http://www.apache.org/licenses/LICENSE-2.0
+#
+# Redistribution and use in source and/or binary forms, with or without
+# modification, must retain the above copyright notice and the following
+# disclaimer.
+#
+# THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+# "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+# LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+# A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+# OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+# SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+# LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+# DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+# THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+# (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+# OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+#
+
+# The launcher of the Spine Compiler as a `protoc` plugin.
+#
+# `protoc` runs the script passing `CodeGeneratorRequest` via the standard input and
+# reading `CodeGeneratorResponse` from the standard output, which the script inherits
+# from the Java process. The options of the Compiler are passed by `protoc` as
+# the parameter of the request, so the script takes no arguments.
+#
+# Pass the script to `protoc` via the `--plugin` option, for example,
+# `--plugin=protoc-gen-spine=<distribution>/bin/${applicationName}`, and the options of
+# the Compiler via the `--spine_opt` option. The output directory given by `--spine_out`
+# must be the common parent of the `target_root` directories.
+#
+
+import os
+import subprocess
+import sys
+
+script_path = sys.argv[0]
+app_home = os.path.abspath(os.path.dirname(os.path.dirname(script_path)))
+
+cp = "$classpath".replace("\$APP_HOME", app_home)
+
+command = ['java', '-cp', cp, '${mainClassName}']
+sys.exit(subprocess.run(command).returncode)
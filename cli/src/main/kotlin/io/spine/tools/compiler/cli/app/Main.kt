@@ -31,11 +31,13 @@ import com.github.ajalt.clikt.core.CliktCommand
 import com.github.ajalt.clikt.core.Context
 import com.github.ajalt.clikt.core.UsageError
 import com.github.ajalt.clikt.core.main
+import com.github.ajalt.clikt.core.parse
 import com.github.ajalt.clikt.parameters.options.flag
+import com.github.ajalt.clikt.parameters.options.multiple
 import com.github.ajalt.clikt.parameters.options.option
-import com.github.ajalt.clikt.parameters.options.required
 import com.github.ajalt.clikt.parameters.types.file
 import io.spine.tools.compiler.backend.Pipeline
+import io.spine.tools.compiler.params.ConcurrentPipelinesParam
 import io.spine.tools.compiler.params.DebugLoggingParam
 import io.spine.tools.compiler.params.InfoLoggingParam
 import io.spine.tools.compiler.params.Parameter
@@ -50,6 +52,10 @@ import io.spine.string.qualifiedClassName
 import io.spine.tools.version.Version
 import io.spine.tools.compiler.params.PipelineParameters
 import java.io.File
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.ForkJoinPool
+import kotlin.math.min
 import kotlin.system.exitProcess
 
 /**
@@ -81,6 +87,21 @@ public fun main(args: Array<String>) {
     }
 }
 
+/**
+ * Runs the CLI application in the current process.
+ *
+ * Unlike [main], this function does not exit the process when done.
+ * Errors are propagated to the caller instead of being printed.
+ *
+ * The function is used by the processes which serve several launches of
+ * the Compiler, such as Gradle worker daemons. Such a process keeps the PSI environment
+ * and the loaded classes of the Compiler plugins between the launches.
+ */
+public fun launch(args: Array<String>) {
+    val version = readVersion()
+    Run(version).parse(args)
+}
+
 private fun readVersion(): String = Version.fromManifestOf(Run::class.java).value
 
 /**
@@ -105,12 +126,14 @@ internal class Run(private val version: String) : CliktCommand(name = "spine"),
         completionCandidates = cc
     )
 
-    private val paramsFile: File by ParametersFileParam.toOption().file(
+    private val paramsFiles: List<File> by ParametersFileParam.toOption().file(
         mustExist = true,
         canBeDir = false,
         canBeSymlink = false,
         mustBeReadable = true
-    ).required()
+    ).multiple(required = true)
+
+    private val concurrent: Boolean by ConcurrentPipelinesParam.toOption().flag(default = false)
 
     private val debug: Boolean by DebugLoggingParam.toOption().flag(default = false)
 
@@ -128,24 +151,72 @@ internal class Run(private val version: String) : CliktCommand(name = "spine"),
     }
 
     override fun run() {
-        if (loggingLevel == Level.WARNING) {
+        withLoggingLevel {
             doRun()
+        }
+    }
+
+    /**
+     * Runs the given [block] with the [loggingLevel] requested by the user.
+     *
+     * The logging context is bound to the calling thread. Therefore, a block running
+     * on another thread, e.g., a pipeline run [concurrently][runConcurrently], has to
+     * install the context again.
+     */
+    private fun withLoggingLevel(block: () -> Unit) {
+        if (loggingLevel == Level.WARNING) {
+            block()
         } else {
             val logLevelMap = LogLevelMap.create(mapOf(), loggingLevel)
             val context = ScopedLoggingContext.getInstance()
                 .newContext()
                 .withLogLevelMap(logLevelMap)
             context.call {
-                doRun()
+                block()
             }
         }
     }
 
     private fun doRun() {
-        val params = parse<PipelineParameters>(paramsFile)
+        val params = paramsFiles.map { parse<PipelineParameters>(it) }
+        if (concurrent && params.size > 1) {
+            runConcurrently(params)
+        } else {
+            params.forEach { runPipeline(it) }
+        }
+    }
+
+    private fun runPipeline(params: PipelineParameters) {
         val pipeline = Pipeline(params = params)
         pipeline()
     }
+
+    /**
+     * Runs the pipelines with the given [params] on a bounded pool of threads.
+     *
+     * Each pipeline runs with the requested [logging level][withLoggingLevel].
+     *
+     * If one of the pipelines fails, the error of the first failed pipeline
+     * in the order of the [params] is rethrown after all the pipelines complete.
+     */
+    private fun runConcurrently(params: List<PipelineParameters>) {
+        val parallelism = min(params.size, Runtime.getRuntime().availableProcessors())
+        val pool = ForkJoinPool(parallelism)
+        try {
+            val tasks = params.map {
+                Callable { withLoggingLevel { runPipeline(it) } }
+            }
+            pool.invokeAll(tasks).forEach {
+                try {
+                    it.get()
+                } catch (e: ExecutionException) {
+                    throw e.cause ?: e
+                }
+            }
+        } finally {
+            pool.shutdown()
+        }
+    }
 }
 
 /**
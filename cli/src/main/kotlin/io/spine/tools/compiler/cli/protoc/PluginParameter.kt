@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.cli.protoc
+
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
+import io.spine.tools.compiler.ast.toAbsoluteDirectory
+import io.spine.tools.compiler.ast.toAbsoluteFile
+import io.spine.tools.compiler.params.PipelineParameters
+import io.spine.tools.compiler.params.pipelineParameters
+import kotlin.io.path.Path
+import kotlin.io.path.exists
+
+/**
+ * The parameter string passed by `protoc` to the in-process Compiler plugin.
+ *
+ * The string is a comma-separated list of `key=value` options, for example:
+ * ```
+ * plugin=org.example.MyPlugin,settings=/path/to/settings,target_root=/path/to/generated
+ * ```
+ * The supported keys are:
+ *  - `plugin` — the name of a Compiler plugin class, may be repeated;
+ *  - `classpath` — an entry of the user classpath, may be repeated;
+ *  - `settings` — the directory with the settings of the plugins, required;
+ *  - `source_root` — a directory with the sources to process, may be repeated;
+ *  - `target_root` — a directory for the processed sources, required, may be repeated;
+ *  - `proto_path` — a directory to look up the compiled proto files, may be repeated.
+ *
+ * @param value The parameter string as passed by `protoc`.
+ * @throws IllegalArgumentException if the string contains an unknown or malformed option.
+ */
+internal class PluginParameter(value: String) {
+
+    private val options: Map<String, List<String>> = value.split(',')
+        .map { it.trim() }
+        .filter { it.isNotEmpty() }
+        .map { option ->
+            val key = option.substringBefore('=')
+            require(option.contains('=') && key in KEYS) {
+                "Unknown or malformed option of the Compiler `protoc` plugin: `$option`." +
+                        " Known options: ${KEYS.joinToString { "`$it`" }}."
+            }
+            key to option.substringAfter('=')
+        }
+        .groupBy({ it.first }, { it.second })
+
+    /**
+     * Creates the parameters for the pipeline processing the given [request].
+     *
+     * The compiled proto files are the
+     * [files to generate][CodeGeneratorRequest.getFileToGenerateList]
+     * found under the `proto_path` directories.
+     *
+     * @throws IllegalArgumentException if a required option is missing.
+     */
+    fun toPipelineParameters(request: CodeGeneratorRequest): PipelineParameters {
+        val settingsDir = single(SETTINGS)
+        val targets = values(TARGET_ROOT)
+        require(targets.isNotEmpty()) {
+            "The `$TARGET_ROOT` option of the Compiler `protoc` plugin is required."
+        }
+        val protoPaths = values(PROTO_PATH).map { Path(it) }
+        val compiled = request.fileToGenerateList.mapNotNull { name ->
+            protoPaths.map { it.resolve(name) }.firstOrNull { it.exists() }
+        }
+        return pipelineParameters {
+            compiledProto.addAll(compiled.map { it.toAbsoluteFile() })
+            settings = Path(settingsDir).toAbsoluteDirectory()
+            pluginClassName.addAll(values(PLUGIN))
+            sourceRoot.addAll(values(SOURCE_ROOT).map { Path(it).toAbsoluteDirectory() })
+            targetRoot.addAll(targets.map { Path(it).toAbsoluteDirectory() })
+            userClasspath.addAll(values(CLASSPATH))
+        }
+    }
+
+    private fun values(key: String): List<String> = options[key] ?: emptyList()
+
+    private fun single(key: String): String {
+        val values = values(key)
+        require(values.size == 1) {
+            "The `$key` option of the Compiler `protoc` plugin must be specified once."
+        }
+        return values.first()
+    }
+
+    private companion object {
+        const val PLUGIN = "plugin"
+        const val CLASSPATH = "classpath"
+        const val SETTINGS = "settings"
+        const val SOURCE_ROOT = "source_root"
+        const val TARGET_ROOT = "target_root"
+        const val PROTO_PATH = "proto_path"
+        val KEYS = listOf(PLUGIN, CLASSPATH, SETTINGS, SOURCE_ROOT, TARGET_ROOT, PROTO_PATH)
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+@file:JvmName("ProtocPlugin")
+
+package io.spine.tools.compiler.cli.protoc
+
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorRequest
+import com.google.protobuf.compiler.PluginProtos.CodeGeneratorResponse
+import com.google.protobuf.compiler.codeGeneratorResponse
+import io.spine.logging.WithLogging
+import io.spine.tools.compiler.backend.Pipeline
+import io.spine.tools.compiler.backend.toCodeGeneratorResponse
+import io.spine.type.parse
+import java.io.PrintStream
+
+/**
+ * Runs the Compiler pipeline straight from the `protoc` plugin process.
+ *
+ * Unlike the plugin of the `protoc-plugin` module, which stores the request
+ * for the following launch of the Compiler, this entry point parses `CodeGeneratorRequest`
+ * from [System.in], runs the [Pipeline], and returns the generated files to `protoc`
+ * in `CodeGeneratorResponse` written to [System.out]. This saves a JVM launch and
+ * a serialization round trip of the request.
+ *
+ * The pipeline parameters are built from the [parameter string][PluginParameter]
+ * passed by `protoc`. The code added to the files generated by `protoc` is returned
+ * as insertions into their `@@protoc_insertion_point` markers.
+ *
+ * The `bin` directory of the CLI distribution contains the `protoc-gen-*` script
+ * launching this entry point, which is to be passed to `protoc` via
+ * the `--plugin` option.
+ *
+ * While the pipeline runs, [System.out] is redirected to [System.err] so that
+ * the output of the Compiler plugins does not corrupt the response.
+ */
+public fun main() {
+    val request = System.`in`.use {
+        CodeGeneratorRequest::class.parse(it)
+    }
+    val stdout = System.out
+    System.setOut(PrintStream(System.err, true))
+    val response = try {
+        respond(request)
+    } finally {
+        System.setOut(stdout)
+    }
+    response.writeTo(stdout)
+    stdout.flush()
+}
+
+/**
+ * Runs the pipeline for the given [request] and creates the response to `protoc`.
+ *
+ * If the pipeline fails, the response carries the [error][CodeGeneratorResponse.getError]
+ * message, which `protoc` reports to the user.
+ */
+@Suppress("TooGenericExceptionCaught") // Any failure must be reported to `protoc`.
+internal fun respond(request: CodeGeneratorRequest): CodeGeneratorResponse =
+    try {
+        val params = PluginParameter(request.parameter).toPipelineParameters(request)
+        val pipeline = Pipeline(params = params, givenRequest = request)
+        pipeline.render().toCodeGeneratorResponse()
+    } catch (e: Exception) {
+        PipelineFailure.report(e)
+        codeGeneratorResponse {
+            error = e.message ?: e.javaClass.name
+        }
+    }
+
+/**
+ * Logs the failures of the pipeline run in the `protoc` plugin process.
+ *
+ * The log goes to [System.err], which `protoc` passes through to the user.
+ */
+private object PipelineFailure : WithLogging {
+
+    fun report(e: Exception) = logger.atError().withCause(e).log {
+        "The Compiler pipeline run as a `protoc` plugin failed."
+    }
+}
@@ -183,6 +183,27 @@ class MainSpec {
         outputEchoFile.readText() shouldBe name
     }
 
+    @Test
+    fun `run several pipelines in one process`() {
+        addPluginClassNames(arrayOf(TestPlugin::class, UnderscorePrefixRendererPlugin::class))
+        val otherTarget = targetRoot.resolveSibling("other-target")
+        val otherParams = parse<PipelineParameters>(parametersFile).toBuilder()
+            .clearTargetRoot()
+            .addTargetRoot(otherTarget.toDirectory())
+            .build()
+        val otherParamsFile = workingDir.parametersDirectory.write(SourceSetName.main, otherParams)
+
+        Run("42.0.0").parse(listOf(
+            "--params", parametersFile.absolutePath,
+            "--params", otherParamsFile.absolutePath,
+            "--concurrent"
+        ))
+
+        val expected = "_${Project::class.simpleName}.getUuid() "
+        targetFile.readText() shouldBe expected
+        otherTarget.resolve(targetFile.name).readText() shouldBe expected
+    }
+
     @Nested
     inner class `Receive custom configuration as` {
 
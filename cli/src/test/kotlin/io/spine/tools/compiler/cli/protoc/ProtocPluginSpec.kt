@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.cli.protoc
+
+import com.google.protobuf.compiler.codeGeneratorRequest
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.format.Format
+import io.spine.string.ti
+import io.spine.tools.compiler.ast.toAbsoluteDirectory
+import io.spine.tools.compiler.ast.toAbsoluteFile
+import io.spine.tools.compiler.settings.SettingsDirectory
+import io.spine.tools.compiler.test.ECHO_FILE
+import io.spine.tools.compiler.test.EchoRenderer
+import io.spine.tools.compiler.test.EchoRendererPlugin
+import java.nio.file.Path
+import kotlin.io.path.createDirectories
+import kotlin.io.path.createFile
+import kotlin.io.path.exists
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("In-process `protoc` plugin should")
+internal class ProtocPluginSpec {
+
+    @Test
+    fun `return the generated files in the response`(@TempDir dir: Path) {
+        val settings = dir.resolve("settings")
+        SettingsDirectory(settings).writeFor<EchoRenderer>(Format.Json, """
+            { "value": "Protoc" }
+        """.ti())
+        val target = dir.resolve("target")
+        val request = codeGeneratorRequest {
+            parameter = "plugin=${EchoRendererPlugin::class.java.name}," +
+                    "settings=$settings,target_root=$target"
+        }
+
+        val response = respond(request)
+
+        response.hasError() shouldBe false
+        response.fileList shouldHaveSize 1
+        with(response.fileList.first()) {
+            name shouldBe ECHO_FILE
+            content shouldBe "Protoc"
+        }
+        target.resolve(ECHO_FILE).exists() shouldBe false
+    }
+
+    @Test
+    fun `report an error for an unknown option`() {
+        val request = codeGeneratorRequest {
+            parameter = "unknown=value"
+        }
+
+        val response = respond(request)
+
+        response.error shouldContain "unknown=value"
+    }
+
+    @Test
+    fun `build pipeline parameters from the parameter string`(@TempDir dir: Path) {
+        val protoPath = dir.resolve("proto")
+        val protoFile = protoPath.resolve("given/test.proto")
+        protoFile.parent.createDirectories()
+        protoFile.createFile()
+        val request = codeGeneratorRequest {
+            fileToGenerate += "given/test.proto"
+            fileToGenerate += "given/missing.proto"
+        }
+        val parameter = PluginParameter(
+            "plugin=org.example.First, plugin=org.example.Second," +
+                    "settings=$dir/settings,source_root=$dir/src,target_root=$dir/out," +
+                    "classpath=$dir/lib.jar,proto_path=$protoPath"
+        )
+
+        val params = parameter.toPipelineParameters(request)
+
+        params.pluginClassNameList.shouldContainExactly("org.example.First", "org.example.Second")
+        params.settings shouldBe dir.resolve("settings").toAbsoluteDirectory()
+        params.sourceRootList.shouldContainExactly(dir.resolve("src").toAbsoluteDirectory())
+        params.targetRootList.shouldContainExactly(dir.resolve("out").toAbsoluteDirectory())
+        params.userClasspathList.shouldContainExactly("$dir/lib.jar")
+        params.compiledProtoList.shouldContainExactly(protoFile.toAbsoluteFile())
+    }
+
+    @Test
+    fun `require the target root`(@TempDir dir: Path) {
+        assertThrows<IllegalArgumentException> {
+            PluginParameter("settings=$dir").toPipelineParameters(codeGeneratorRequest {})
+        }
+    }
+}
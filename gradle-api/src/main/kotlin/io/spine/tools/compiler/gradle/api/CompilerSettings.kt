@@ -27,6 +27,7 @@
 package io.spine.tools.compiler.gradle.api
 
 import org.gradle.api.file.DirectoryProperty
+import org.gradle.api.provider.Property
 
 /**
  * Configures the code generation process performed by the Compiler.
@@ -64,4 +65,59 @@ public interface CompilerSettings {
      * By default, points at the `$projectDir/generated/` directory.
      */
     public val outputBaseDir: DirectoryProperty
+
+    /**
+     * Tells if the Compiler should render independent source sets concurrently.
+     *
+     * For example, when the code generated into the `java`, `kotlin`, and `grpc`
+     * [subdirectories][subDirs] is processed, each subdirectory is rendered on
+     * a separate thread.
+     *
+     * The default value is `false`.
+     */
+    public val parallelRendering: Property<Boolean>
+
+    /**
+     * Tells if the Compiler should keep the generated files whose content
+     * did not change since the previous run.
+     *
+     * When enabled, the target directories are not cleaned before the Compiler runs.
+     * Files with unchanged content are not rewritten, so their modification time
+     * is preserved, which lets the downstream compilation tasks stay up to date.
+     * Files which are no longer generated are deleted by the Compiler.
+     *
+     * The default value is `false`.
+     */
+    public val skipUnchangedFiles: Property<Boolean>
+
+    /**
+     * Tells if the Compiler should run in a Gradle worker daemon.
+     *
+     * By default, each source set of each module launches the Compiler in a new JVM.
+     * When enabled, the Compiler runs in a worker process which Gradle keeps alive and
+     * reuses for the launches with the same classpath. The process keeps the PSI environment
+     * and the classes of the Compiler plugins loaded between the launches.
+     *
+     * The default value is `false`.
+     */
+    public val useWorkerDaemon: Property<Boolean>
+
+    /**
+     * Tells if the Compiler should regenerate only the code affected by
+     * the changes in the proto files since the previous run.
+     *
+     * When enabled, the Compiler emits events only for the changed proto files and
+     * the files importing them. The generated files originating from other proto files
+     * are not rendered and are kept as written by the previous run.
+     *
+     * A generated file originates from the proto file named in the `source:` comment
+     * in its header, which `protoc` writes. If a source file, or a file generated by
+     * the previous run, has no such comment, all the files are regenerated.
+     *
+     * Do not enable this mode if some of the Compiler plugins generate code using
+     * the data from several proto files, for example, an index of all the types.
+     *
+     * The default value is `false`.
+     */
+    public val incremental: Property<Boolean>
 }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.gradle.plugin
+
+import io.spine.tools.compiler.Constants.CLI_APP_CLASS
+import io.spine.tools.compiler.Constants.CLI_APP_LAUNCH_METHOD
+import java.lang.reflect.InvocationTargetException
+import org.gradle.api.provider.ListProperty
+import org.gradle.workers.WorkAction
+import org.gradle.workers.WorkParameters
+
+/**
+ * Runs the Compiler in a Gradle worker daemon.
+ *
+ * The Gradle plugin does not depend on the Compiler CLI application.
+ * Because of this, the action calls the application reflectively.
+ * The application is available on the classpath of the worker process.
+ *
+ * A worker daemon serves several launches of the Compiler having the same classpath.
+ * Between the launches, it keeps the PSI environment and the classes of
+ * the Compiler plugins loaded. The state of a launch, such as the source files and
+ * the index of the descriptors, belongs to its pipeline and is not kept by the daemon.
+ * The process-wide caches of the Compiler are bounded, so they do not grow
+ * with each launch.
+ *
+ * @see LaunchSpineCompiler.useWorkerDaemon
+ */
+internal abstract class CompilerWorkAction : WorkAction<CompilerWorkAction.Parameters> {
+
+    /**
+     * The parameters of the [CompilerWorkAction].
+     */
+    internal interface Parameters : WorkParameters {
+
+        /**
+         * The command-line arguments of the Compiler.
+         */
+        val arguments: ListProperty<String>
+    }
+
+    override fun execute() {
+        val args = parameters.arguments.get().toTypedArray()
+        val loader = javaClass.classLoader
+        val launch = loader.loadClass(CLI_APP_CLASS)
+            .getMethod(CLI_APP_LAUNCH_METHOD, Array<String>::class.java)
+        try {
+            launch.invoke(null, args)
+        } catch (e: InvocationTargetException) {
+            throw e.cause ?: e
+        }
+    }
+}
@@ -37,9 +37,11 @@ import org.gradle.api.file.Directory
 import org.gradle.api.file.DirectoryProperty
 import org.gradle.api.plugins.ExtensionContainer
 import org.gradle.api.provider.ListProperty
+import org.gradle.api.provider.Property
 import org.gradle.api.provider.Provider
 import org.gradle.api.tasks.SourceSet
 import org.gradle.kotlin.dsl.listProperty
+import org.gradle.kotlin.dsl.property
 
 /**
  * The `compiler { }` Gradle project extension.
@@ -108,6 +110,38 @@ public class Extension(private val project: Project): CompilerSettings {
         )
     }
 
+    /**
+     * Allows turning on concurrent rendering of independent source sets.
+     *
+     * By default, source sets are rendered one after another.
+     */
+    override val parallelRendering: Property<Boolean> =
+        factory.property<Boolean>().convention(false)
+
+    /**
+     * Allows keeping the generated files which did not change since the previous run.
+     *
+     * By default, the target directories are cleaned before each run.
+     */
+    override val skipUnchangedFiles: Property<Boolean> =
+        factory.property<Boolean>().convention(false)
+
+    /**
+     * Allows running the Compiler in a reused Gradle worker daemon.
+     *
+     * By default, each launch of the Compiler runs in a new JVM process.
+     */
+    override val useWorkerDaemon: Property<Boolean> =
+        factory.property<Boolean>().convention(false)
+
+    /**
+     * Allows regenerating only the code affected by the changes in proto files.
+     *
+     * By default, all the code is regenerated on each run.
+     */
+    override val incremental: Property<Boolean> =
+        factory.property<Boolean>().convention(false)
+
     /**
      * Obtains the source directories for the given source set.
      */
@@ -27,6 +27,7 @@
 package io.spine.tools.compiler.gradle.plugin
 
 import com.google.protobuf.gradle.GenerateProtoTask
+import io.spine.format.Format
 import io.spine.tools.code.SourceSetName
 import io.spine.tools.compiler.Constants.CLI_APP_CLASS
 import io.spine.tools.compiler.ast.toAbsoluteFile
@@ -34,6 +35,7 @@ import io.spine.tools.compiler.ast.toDirectory
 import io.spine.tools.compiler.gradle.api.Names.COMPILER_RAW_ARTIFACT
 import io.spine.tools.compiler.gradle.api.Names.USER_CLASSPATH_CONFIGURATION
 import io.spine.tools.compiler.gradle.api.compilerWorkingDir
+import io.spine.tools.compiler.gradle.api.debug
 import io.spine.tools.compiler.gradle.api.error
 import io.spine.tools.compiler.gradle.api.info
 import io.spine.tools.compiler.params.ParametersFileParam
@@ -65,6 +67,7 @@ import org.gradle.api.tasks.OutputDirectories
 import org.gradle.api.tasks.PathSensitive
 import org.gradle.api.tasks.PathSensitivity
 import org.gradle.api.tasks.SourceSet
+import org.gradle.workers.WorkerExecutor
 
 /**
  * A task that executes a single Spine Compiler command.
@@ -91,6 +94,45 @@ public abstract class LaunchSpineCompiler : JavaExec() {
     @get:Input
     internal lateinit var plugins: Provider<List<String>>
 
+    /**
+     * Tells if the Compiler should render independent source sets concurrently.
+     *
+     * The property does not affect the generated code.
+     * Because of this, it is not an input of the task.
+     */
+    @get:Internal
+    internal lateinit var parallelRendering: Provider<Boolean>
+
+    /**
+     * Tells if the Compiler should keep the generated files which did not change
+     * since the previous run.
+     *
+     * The property does not affect the generated code.
+     * Because of this, it is not an input of the task.
+     */
+    @get:Internal
+    internal lateinit var skipUnchangedFiles: Provider<Boolean>
+
+    /**
+     * Tells if the Compiler should run in a Gradle worker daemon reused
+     * between the launches instead of a new JVM process.
+     *
+     * The property does not affect the generated code.
+     * Because of this, it is not an input of the task.
+     */
+    @get:Internal
+    internal lateinit var useWorkerDaemon: Provider<Boolean>
+
+    /**
+     * Tells if the Compiler should regenerate only the code affected by
+     * the changes in the proto files since the previous run.
+     *
+     * The property is not an input of the task because the incremental
+     * generation produces the same code as the full one.
+     */
+    @get:Internal
+    internal lateinit var incremental: Provider<Boolean>
+
     /**
      * The paths to the directories with the generated source code.
      *
@@ -160,6 +202,12 @@ public abstract class LaunchSpineCompiler : JavaExec() {
     @get:Inject
     internal abstract val fileSystemOperations: FileSystemOperations
 
+    /**
+     * The executor of the Gradle workers used when [useWorkerDaemon] is on.
+     */
+    @get:Inject
+    internal abstract val workerExecutor: WorkerExecutor
+
     init {
         jvmArgs(
             // Open access for Palantir Java Formatter.
@@ -197,10 +245,52 @@ public abstract class LaunchSpineCompiler : JavaExec() {
      * The cleanup runs only when the task itself executes: a task that is
      * up-to-date, or restored from the build cache, leaves the previously
      * generated code intact.
+     *
+     * When [skipUnchangedFiles] or [incremental] is on, the target directories are not cleaned.
+     * Instead, the Compiler deletes the stale files itself, and keeps the files
+     * whose content did not change.
+     *
+     * When [useWorkerDaemon] is on, the Compiler is run in a Gradle worker daemon
+     * instead of a new JVM process.
      */
     override fun exec() {
-        cleanTargetDirs()
-        super.exec()
+        if (!skipUnchangedFiles.get() && !incremental.get()) {
+            cleanTargetDirs()
+        }
+        if (useWorkerDaemon.get()) {
+            execInWorker()
+        } else {
+            super.exec()
+        }
+    }
+
+    /**
+     * Runs the Compiler in a Gradle worker daemon and waits for it to complete.
+     *
+     * The JVM options of this task, such as the JVM arguments, the heap size,
+     * the system properties, and the environment variables, are passed to
+     * the worker daemon. Gradle reuses a running worker daemon for the tasks with
+     * the same classpath and JVM options.
+     */
+    private fun execInWorker() {
+        val queue = workerExecutor.processIsolation { spec ->
+            spec.classpath.from(compilerConfiguration, userClasspathConfiguration)
+            spec.forkOptions { options ->
+                options.jvmArgs(jvmArgs ?: emptyList())
+                options.jvmArgumentProviders.addAll(jvmArgumentProviders)
+                maxHeapSize?.let { options.maxHeapSize = it }
+                minHeapSize?.let { options.minHeapSize = it }
+                options.systemProperties(systemProperties)
+                options.environment(environment)
+                options.defaultCharacterEncoding = defaultCharacterEncoding
+                options.enableAssertions = enableAssertions
+            }
+        }
+        val command = args ?: emptyList()
+        queue.submit(CompilerWorkAction::class.java) {
+            it.arguments.set(command)
+        }
+        queue.await()
     }
 
     /**
@@ -237,6 +327,10 @@ internal fun LaunchSpineCompiler.applyDefaults(sourceSet: SourceSet) {
     val project = project
     val ext = project.compilerSettings
     plugins = ext.plugins
+    parallelRendering = ext.parallelRendering
+    skipUnchangedFiles = ext.skipUnchangedFiles
+    useWorkerDaemon = ext.useWorkerDaemon
+    incremental = ext.incremental
     compilerConfiguration = project.compilerRawArtifact
     userClasspathConfiguration = project.userClasspath
 
@@ -291,6 +385,14 @@ private fun LaunchSpineCompiler.setDependencies(sourceSet: SourceSet) {
  */
 private fun LaunchSpineCompiler.createParametersFile() {
     val generateProtoTask = dependsOn.first { it is GenerateProtoTask } as GenerateProtoTask
+    val renderConcurrently = parallelRendering.get()
+    val keepUnchanged = skipUnchangedFiles.get()
+    val sourceSet = SourceSetName(sourceSetName.get())
+    val stateFile = if (incremental.get()) {
+        workingDir.incrementalDirectory.file(sourceSet).toAbsoluteFile()
+    } else {
+        null
+    }
     val params = pipelineParameters {
         val protoFiles = generateProtoTask.sourceDirs.asFileTree.files.toList().sorted()
             .map {
@@ -305,20 +407,29 @@ private fun LaunchSpineCompiler.createParametersFile() {
             targets.absoluteDirs().map { it.toDirectory() }
         )
         request = workingDir.requestDirectory
-            .file(SourceSetName(sourceSetName.get()))
+            .file(sourceSet)
             .toAbsoluteFile()
 
         pluginClassName.addAll(plugins.get())
 
         val ucp = userClasspathConfiguration.asPath.split(pathSeparator)
         userClasspath.addAll(ucp)
+
+        parallelRendering = renderConcurrently
+        skipUnchangedFiles = keepUnchanged
+        stateFile?.let { incrementalState = it }
+        cache = workingDir.cacheDirectory.toAbsolutePath().toDirectory()
     }
 
-    val sourceSet = SourceSetName(sourceSetName.get())
     val file = workingDir.parametersDirectory.write(sourceSet, params)
     logger.info {
         "Parameters file `${file.canonicalPath}` has been created.`"
     }
+    if (logger.isDebugEnabled) {
+        // The JSON copy is not read by the Compiler, and serves for debugging only.
+        val jsonFile = workingDir.parametersDirectory.write(sourceSet, params, Format.ProtoJson)
+        logger.debug { "JSON copy of the parameters: `${jsonFile.canonicalPath}`." }
+    }
 }
 
 /**
@@ -34,8 +34,6 @@ import com.google.errorprone.annotations.CanIgnoreReturnValue
 import com.google.protobuf.gradle.GenerateProtoTask
 import com.google.protobuf.gradle.ProtobufExtension
 import io.spine.annotation.VisibleForTesting
-import io.spine.format.Format
-import io.spine.io.replaceExtension
 import io.spine.string.toBase64Encoded
 import io.spine.tools.code.SourceSetName
 import io.spine.tools.compiler.gradle.api.Artifacts
@@ -455,24 +453,19 @@ private fun GenerateProtoTask.addProtocPlugin() {
 private const val REQUEST_FILE_PROPERTY = "spineCompilerRequestFile"
 
 /**
- * The name of the [GenerateProtoTask] output property for the JSON twin of the request file.
- */
-private const val REQUEST_FILE_JSON_PROPERTY = "spineCompilerRequestFileJson"
-
-/**
- * Declares the [requestFile] written by the Compiler `protoc` plugin — and its JSON
- * twin produced by `CodeGeneratorRequestWriter` — as outputs of this task.
+ * Declares the [requestFile] written by the Compiler `protoc` plugin as an output of this task.
+ *
+ * The JSON copy of the request is written by the plugin only for debugging purposes and,
+ * therefore, is not declared as an output.
  *
- * The Compiler `protoc` plugin writes these files as a side effect of running `protoc`.
- * Unless they are declared as task outputs, the build cache does not store them, and
+ * The Compiler `protoc` plugin writes the file as a side effect of running `protoc`.
+ * Unless it is declared as a task output, the build cache does not store it, and
  * a task restored from the cache leaves the request file missing. The [LaunchSpineCompiler]
  * task is then skipped (see [hasRequestFile]), and no code is generated.
  */
 private fun GenerateProtoTask.declareRequestFileOutputs(requestFile: File) {
     outputs.file(requestFile)
         .withPropertyName(REQUEST_FILE_PROPERTY)
-    outputs.file(requestFile.replaceExtension(Format.ProtoJson.extension))
-        .withPropertyName(REQUEST_FILE_JSON_PROPERTY)
 }
 
 /**
@@ -28,7 +28,7 @@ package io.spine.tools.compiler.jvm
 
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiField
-import io.spine.tools.psi.java.Environment.elementFactory
+import io.spine.tools.compiler.render.PsiEnvironment.elementFactory
 
 /**
  * A declaration of a Java field.
@@ -28,7 +28,7 @@ package io.spine.tools.compiler.jvm
 
 import com.intellij.psi.PsiElement
 import com.intellij.psi.PsiStatement
-import io.spine.tools.psi.java.Environment
+import io.spine.tools.compiler.render.PsiEnvironment
 
 /**
  * An executable Java instruction.
@@ -45,4 +45,4 @@ public open class Statement(code: String) : AnElement(code)
  * Creates a new [PsiStatement] from this Java [Statement].
  */
 public fun Statement.toPsi(context: PsiElement? = null): PsiStatement =
-    Environment.elementFactory.createStatementFromText(toCode(), context)
+    PsiEnvironment.elementFactory.createStatementFromText(toCode(), context)
@@ -33,11 +33,11 @@ import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiFile
 import com.intellij.psi.PsiJavaFile
 import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.render.PsiEnvironment
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.string.Separator
 import io.spine.tools.compiler.render.Text
 import io.spine.tools.psi.convertLineSeparators
-import io.spine.tools.psi.java.Environment
 import io.spine.tools.psi.java.Parser
 import io.spine.tools.psi.java.locate
 
@@ -102,8 +102,7 @@ private object TextToPsiParser {
     }
 
     private val parser by lazy {
-        Environment.setUp()
-        Parser(Environment.project)
+        Parser(PsiEnvironment.project)
     }
 
     private val cache: LoadingCache<Text, PsiJavaFile> =
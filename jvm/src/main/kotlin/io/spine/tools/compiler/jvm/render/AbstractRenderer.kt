@@ -29,6 +29,7 @@ package io.spine.tools.compiler.jvm.render
 import com.google.protobuf.Empty
 import com.google.protobuf.Message
 import io.spine.base.EntityState
+import io.spine.tools.compiler.context.allStates
 import io.spine.tools.compiler.jvm.file.hasJavaRoot
 import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.reflect.argumentIn
@@ -116,7 +117,7 @@ public abstract class AbstractRenderer<V : EntityState<*>, S : Message> : JavaRe
     }
 
     private fun findViews(): Set<V> {
-        val found = select(viewClass).all()
+        val found = allStates(viewClass)
         return found
     }
 
@@ -33,9 +33,9 @@ import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiMethod
 import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.context.CodegenContext
+import io.spine.tools.compiler.render.PsiEnvironment.elementFactory
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.code.Java
-import io.spine.tools.psi.java.Environment.elementFactory
 import io.spine.tools.psi.java.addFirst
 import io.spine.tools.psi.java.addLast
 import io.spine.tools.psi.java.createPrivateConstructor
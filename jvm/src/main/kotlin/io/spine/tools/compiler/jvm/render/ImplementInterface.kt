@@ -29,9 +29,9 @@ package io.spine.tools.compiler.jvm.render
 import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.context.CodegenContext
 import io.spine.tools.compiler.jvm.ClassName
+import io.spine.tools.compiler.render.PsiEnvironment.elementFactory
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.code.Java
-import io.spine.tools.psi.java.Environment.elementFactory
 import io.spine.tools.psi.java.createClassReference
 import io.spine.tools.psi.java.implement
 
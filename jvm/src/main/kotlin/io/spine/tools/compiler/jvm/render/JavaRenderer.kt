@@ -31,6 +31,7 @@ import io.spine.tools.compiler.ast.MessageType
 import io.spine.tools.compiler.ast.ProtobufSourceFile
 import io.spine.tools.compiler.ast.TypeName
 import io.spine.tools.compiler.ast.qualifiedName
+import io.spine.tools.compiler.context.allStates
 import io.spine.tools.compiler.context.findHeader
 import io.spine.tools.compiler.jvm.ClassName
 import io.spine.tools.compiler.jvm.javaClassName
@@ -38,8 +39,6 @@ import io.spine.tools.compiler.jvm.javaFile
 import io.spine.tools.compiler.render.Renderer
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
-import io.spine.server.query.Querying
-import io.spine.server.query.select
 import io.spine.tools.code.Java
 import java.nio.file.Path
 
@@ -89,6 +88,6 @@ public abstract class JavaRenderer : Renderer<Java>(Java) {
  * Retrieves all message types known to the current compilation process.
  */
 public fun JavaRenderer.findMessageTypes(): Set<MessageType> =
-    (this as Querying).select<ProtobufSourceFile>().all()
+    allStates(ProtobufSourceFile::class.java)
         .flatMap { it.typeMap.values }
         .toSet()
@@ -92,13 +92,15 @@ public abstract class MessageAction<P : Message>(
 
     /**
      * Adds a nested class the top class of the given [file].
+     *
+     * The modified PSI of the [file] is kept for the following actions on the same file.
+     * The code of the file is updated from the PSI only when it is read.
      */
     @Suppress("TooGenericExceptionCaught") // ... to log diagnostic.
     override fun render() {
         try {
             doRender()
-            val updatedText = psiFile.text
-            file.overwrite(updatedText)
+            file.markPsiModified()
         } catch (e: Throwable) {
             logger.atError().withCause(e).log { """
                 Caught exception while applying `$this`.
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.jvm.style
+
+import com.google.common.hash.Hashing
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption.ATOMIC_MOVE
+import java.nio.file.StandardCopyOption.REPLACE_EXISTING
+import java.nio.file.attribute.FileTime
+import java.time.Duration
+import java.time.Instant
+import kotlin.io.path.createDirectories
+import kotlin.io.path.getLastModifiedTime
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.name
+import kotlin.io.path.readText
+import kotlin.io.path.setLastModifiedTime
+import kotlin.io.path.writeText
+
+/**
+ * A persistent cache of the formatted code addressed by the hash of the code
+ * before formatting.
+ *
+ * Each entry is a file named after the hash. An entry is written into a temporary
+ * file first and then moved into place, so that a partially written entry is never read,
+ * even if several pipelines share the cache.
+ *
+ * The failures of reading and writing the entries are not fatal.
+ * The code which could not be obtained from the cache is formatted again.
+ *
+ * The number of entries is capped by [maxEntries]. Reading an entry updates its
+ * modification time, and [pruning][prune] removes the entries which were not used
+ * for the longest time. This way, the entries of the code which no longer exists,
+ * e.g., the code formatted by the previous versions of the formatter, do not
+ * accumulate between builds.
+ *
+ * @param directory The directory with the entries of the cache.
+ * @param version The version of the formatting. It is hashed along with the code,
+ *   so that changing the formatter or its options invalidates the existing entries.
+ * @param maxEntries The maximum number of entries kept after [pruning][prune].
+ */
+internal class FormattedCodeCache(
+    private val directory: Path,
+    private val version: String,
+    private val maxEntries: Int = MAX_ENTRIES
+) {
+
+    init {
+        require(maxEntries > 0) {
+            "The maximum number of cache entries must be positive, but was $maxEntries."
+        }
+    }
+
+    /**
+     * Obtains the formatted version of the given [code].
+     *
+     * @return the formatted code, or `null` if there is no such entry in the cache.
+     */
+    fun get(code: String): String? {
+        val entry = entry(code)
+        return try {
+            entry.readText().also {
+                // Not being able to mark the entry used only makes it pruned earlier.
+                runCatching { entry.setLastModifiedTime(FileTime.from(Instant.now())) }
+            }
+        } catch (_: IOException) {
+            null
+        }
+    }
+
+    /**
+     * Stores the [formatted] version of the given [code].
+     */
+    fun put(code: String, formatted: String) {
+        val entry = entry(code)
+        var temp: Path? = null
+        try {
+            directory.createDirectories()
+            temp = Files.createTempFile(directory, entry.name, TEMP_SUFFIX)
+            temp.writeText(formatted)
+            Files.move(temp, entry, ATOMIC_MOVE, REPLACE_EXISTING)
+        } catch (_: IOException) {
+            // The code will be formatted again by the next run.
+            temp?.let { runCatching { Files.deleteIfExists(it) } }
+        }
+    }
+
+    /**
+     * Removes the least recently used entries above [maxEntries], as well as
+     * the temporary files left by the interrupted writes.
+     *
+     * The failures of removing the entries are ignored.
+     */
+    fun prune() {
+        val files = try {
+            directory.listDirectoryEntries()
+        } catch (_: IOException) {
+            return
+        }
+        val (temporary, entries) = files.partition { it.name.endsWith(TEMP_SUFFIX) }
+        val stale = temporary.filter { it.isOlderThan(STALE_TEMP_AGE) }
+        val excess = if (entries.size > maxEntries) {
+            entries.map { it to it.lastModifiedOrNull() }
+                .sortedBy { (_, time) -> time }
+                .take(entries.size - maxEntries)
+                .map { (path, _) -> path }
+        } else {
+            emptyList()
+        }
+        (stale + excess).forEach {
+            runCatching { Files.deleteIfExists(it) }
+        }
+    }
+
+    private fun entry(code: String): Path {
+        val hash = Hashing.sha256().newHasher()
+            .putInt(version.length)
+            .putUnencodedChars(version)
+            .putUnencodedChars(code)
+            .hash()
+        return directory.resolve(hash.toString())
+    }
+
+    private companion object {
+
+        /**
+         * The suffix of the files to which the entries are written before
+         * they are moved into place.
+         */
+        const val TEMP_SUFFIX = ".tmp"
+
+        /**
+         * The default maximum number of entries.
+         *
+         * It is enough to keep the formatted code of a large project, while
+         * the cache does not grow above a few hundred megabytes.
+         */
+        const val MAX_ENTRIES = 20_000
+
+        /**
+         * The age after which a temporary file is considered left by
+         * an interrupted write rather than being written at the moment.
+         */
+        val STALE_TEMP_AGE: Duration = Duration.ofHours(1)
+    }
+}
+
+private fun Path.lastModifiedOrNull(): FileTime? =
+    try {
+        getLastModifiedTime()
+    } catch (_: IOException) {
+        null
+    }
+
+private fun Path.isOlderThan(age: Duration): Boolean {
+    val modified = lastModifiedOrNull() ?: return false
+    return modified.toInstant().isBefore(Instant.now().minus(age))
+}
@@ -34,6 +34,12 @@ import io.spine.tools.compiler.jvm.render.JavaRenderer
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.compiler.render.forEachOfLanguage
+import io.spine.tools.compiler.util.WorkerPool
+import java.security.MessageDigest
+import java.util.concurrent.Callable
+import kotlin.io.path.inputStream
+import kotlin.io.path.isRegularFile
+import kotlin.io.path.toPath
 
 /**
  * Java style formatter based on Palantir Java Format library.
@@ -47,6 +53,11 @@ import io.spine.tools.compiler.render.forEachOfLanguage
  * allow much of customization apart from the minimal style options passed
  * as an argument to [Formatter.createFormatter] factory function.
  *
+ * The files of a source set are formatted concurrently. If the context provides
+ * the [cache directory][io.spine.tools.compiler.context.CodegenContext.cacheDirectory],
+ * the formatted code is cached there, so that the files which do not change between
+ * builds are not formatted again.
+ *
  * @see PsiJavaCodeStyleFormatter
  */
 internal class PalantirJavaFormatter : JavaRenderer() {
@@ -54,20 +65,103 @@ internal class PalantirJavaFormatter : JavaRenderer() {
     private val formatter by lazy {
         Formatter.createFormatter(
             JavaFormatterOptions.builder()
-                .style(Style.AOSP)
+                .style(STYLE)
                 .build()
         )
     }
 
+    private val cache: FormattedCodeCache? by lazy {
+        context.cacheDirectory?.let {
+            FormattedCodeCache(it.resolve(CACHE_SUBDIR), formattingVersion())
+                .apply { prune() }
+        }
+    }
+
+    /**
+     * The formatter does not use PSI and keeps no state, so it may format
+     * different source sets at the same time.
+     */
+    override val isThreadSafe: Boolean
+        get() = true
+
     override fun render(sources: SourceFileSet) {
+        val files = mutableListOf<SourceFile<Java>>()
         sources.forEachOfLanguage<Java> {
-            reformat(it)
+            files.add(it)
+        }
+        // The code is obtained on this thread because obtaining it
+        // may run the pre-read actions of the source set.
+        val code = files.map { it.code() }
+        val formatted = formatAll(code)
+        files.zip(formatted).forEach { (file, formattedCode) ->
+            file.overwrite(formattedCode)
+        }
+    }
+
+    /**
+     * Formats the given pieces of code in the [shared pool][WorkerPool] of the Compiler.
+     *
+     * @return the formatted code in the same order.
+     */
+    private fun formatAll(code: List<String>): List<String> {
+        if (code.size < 2) {
+            return code.map(::format)
         }
+        val tasks = code.map { Callable { format(it) } }
+        return WorkerPool.invokeAll(tasks)
     }
 
-    private fun reformat(file: SourceFile<Java>) {
-        val code = file.code()
-        val formatted = formatter.formatSource(code)
-        file.overwrite(formatted)
+    private fun format(code: String): String {
+        val cache = cache ?: return formatter.formatSource(code)
+        return cache.get(code)
+            ?: formatter.formatSource(code).also { cache.put(code, it) }
+    }
+
+    private companion object {
+
+        val STYLE = Style.AOSP
+
+        /**
+         * The subdirectory of the cache directory with the formatted Java code.
+         */
+        const val CACHE_SUBDIR = "palantir-java-format"
+
+        /**
+         * Obtains the version of the formatting, which is the version of
+         * the formatter library and the style.
+         *
+         * If the library does not declare its version in the manifest,
+         * the hash of the library JAR, or of the formatter class if the library
+         * is not in a JAR, is used instead. This way, upgrading the library
+         * invalidates the cached code in any case.
+         */
+        fun formattingVersion(): String {
+            val library = Formatter::class.java.`package`?.implementationVersion
+                ?: libraryHash()
+            return "$library-$STYLE"
+        }
+
+        private fun libraryHash(): String {
+            val digest = MessageDigest.getInstance("SHA-256")
+            val location = Formatter::class.java.protectionDomain?.codeSource?.location
+            val jar = location?.let { runCatching { it.toURI().toPath() }.getOrNull() }
+            val content = if (jar != null && jar.isRegularFile()) {
+                jar.inputStream()
+            } else {
+                Formatter::class.java.getResourceAsStream("Formatter.class")
+            }
+            checkNotNull(content) {
+                "Unable to read the classes of the formatter library to obtain its version."
+            }
+            content.use { stream ->
+                val buffer = ByteArray(DEFAULT_BUFFER_SIZE)
+                var read = stream.read(buffer)
+                while (read >= 0) {
+                    digest.update(buffer, 0, read)
+                    read = stream.read(buffer)
+                }
+            }
+            return digest.digest().joinToString("") { "%02x".format(it) }
+        }
     }
 }
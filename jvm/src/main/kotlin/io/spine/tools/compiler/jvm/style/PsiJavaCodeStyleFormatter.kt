@@ -26,8 +26,10 @@
 
 package io.spine.tools.compiler.jvm.style
 
+import com.intellij.openapi.util.TextRange
 import com.intellij.psi.codeStyle.JavaCodeStyleSettings
 import io.spine.tools.compiler.jvm.render.JavaRenderer
+import io.spine.tools.compiler.render.PsiEnvironment
 import io.spine.tools.compiler.render.SourceFile
 import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.compiler.render.forEachOfLanguage
@@ -40,9 +42,10 @@ import io.spine.tools.psi.content
 import io.spine.tools.psi.convertLineSeparators
 import io.spine.tools.psi.force
 import io.spine.tools.psi.get
-import io.spine.tools.psi.java.Environment
 import io.spine.tools.psi.java.Parser
 import io.spine.tools.psi.java.execute
+import kotlin.math.max
+import kotlin.math.min
 
 /**
  * Reformats Java source code files using settings passed as [JavaCodeStyle] instance.
@@ -56,7 +59,7 @@ public class PsiJavaCodeStyleFormatter : JavaRenderer() {
 
     override val consumerId: String = settingsId
 
-    private val project = Environment.project
+    private val project = PsiEnvironment.project
 
     private val codeStyle: JavaCodeStyle by lazy {
         if (settingsAvailable()) {
@@ -92,12 +95,22 @@ public class PsiJavaCodeStyleFormatter : JavaRenderer() {
         }
     }
 
+    /**
+     * Reformats the lines of the given [file] changed by the renderers.
+     *
+     * The files which were not changed are skipped.
+     */
     private fun reformat(file: SourceFile<Java>) {
+        val changedLines = file.changedLines()
+        if (changedLines.isEmpty()) {
+            return
+        }
         val withAdjustedSeparators = file.code().convertLineSeparators()
         val outputFile = file.outputPath.toFile()
         val psiFile = parser.parse(withAdjustedSeparators, outputFile)
+        val ranges = withAdjustedSeparators.textRanges(changedLines)
         execute {
-            project.codeStyleManager.reformat(psiFile)
+            project.codeStyleManager.reformatText(psiFile, ranges)
         }
         val updatedCode = psiFile.content()
         file.overwrite(updatedCode)
@@ -111,3 +124,28 @@ public class PsiJavaCodeStyleFormatter : JavaRenderer() {
         public val settingsId: String = JavaCodeStyle::class.java.defaultConsumerId
     }
 }
+
+/**
+ * Converts the given ranges of lines of this code into the ranges of the text.
+ *
+ * A range covers its lines along with the line separator of the last line.
+ * An empty range of lines, which marks removed lines, covers the line at its start,
+ * so that the code around the removed lines is reformatted.
+ *
+ * The lines of the code must be separated with `\n`.
+ */
+private fun String.textRanges(lines: List<IntRange>): List<TextRange> {
+    val lineStarts = mutableListOf(0)
+    forEachIndexed { index, char ->
+        if (char == '\n') {
+            lineStarts.add(index + 1)
+        }
+    }
+    fun offsetOf(line: Int): Int =
+        if (line < lineStarts.size) lineStarts[line] else length
+    return lines.map {
+        val start = offsetOf(it.first)
+        val end = offsetOf(max(it.last, it.first) + 1)
+        TextRange(min(start, length), end)
+    }
+}
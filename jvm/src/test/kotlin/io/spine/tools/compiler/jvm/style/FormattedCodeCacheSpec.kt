@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.tools.compiler.jvm.style
+
+import io.kotest.matchers.collections.shouldBeEmpty
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.shouldBe
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.setLastModifiedTime
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`FormattedCodeCache` should")
+internal class FormattedCodeCacheSpec {
+
+    private val code = "class Foo{}"
+    private val formatted = "class Foo {}\n"
+
+    @Test
+    fun `return 'null' for the code not formatted before`(@TempDir dir: Path) {
+        val cache = FormattedCodeCache(dir.resolve("cache"), "1")
+
+        cache.get(code) shouldBe null
+    }
+
+    @Test
+    fun `return the formatted code stored by a previous run`(@TempDir dir: Path) {
+        FormattedCodeCache(dir, "1").put(code, formatted)
+
+        FormattedCodeCache(dir, "1").get(code) shouldBe formatted
+    }
+
+    @Test
+    fun `not return the code formatted by another version`(@TempDir dir: Path) {
+        FormattedCodeCache(dir, "1").put(code, formatted)
+
+        FormattedCodeCache(dir, "2").get(code) shouldBe null
+    }
+
+    @Test
+    fun `not leave temporary files`(@TempDir dir: Path) {
+        FormattedCodeCache(dir, "1").put(code, formatted)
+
+        dir.listDirectoryEntries("*.tmp").shouldBeEmpty()
+    }
+
+    @Test
+    fun `remove the least recently used entries above the limit`(@TempDir dir: Path) {
+        val cache = FormattedCodeCache(dir, "1", maxEntries = 2)
+        cache.put("class A{}", "class A {}")
+        cache.put("class B{}", "class B {}")
+        cache.put("class C{}", "class C {}")
+        dir.listDirectoryEntries().forEachIndexed { index, entry ->
+            entry.setLastModifiedTime(FileTime.fromMillis(index * 1_000L))
+        }
+        cache.get("class A{}")
+
+        cache.prune()
+
+        dir.listDirectoryEntries() shouldHaveSize 2
+        cache.get("class A{}") shouldBe "class A {}"
+    }
+}
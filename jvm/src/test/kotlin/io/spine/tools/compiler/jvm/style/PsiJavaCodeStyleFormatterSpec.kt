@@ -29,19 +29,25 @@
 package io.spine.tools.compiler.jvm.style
 
 import copyResource
+import io.kotest.matchers.shouldBe
 import io.kotest.matchers.string.shouldContain
 import io.spine.format.Format
+import io.spine.string.ti
 import io.spine.testing.compiler.RenderingTestbed
 import io.spine.testing.compiler.pipelineParams
 import io.spine.testing.compiler.withRoots
 import io.spine.testing.compiler.withSettingsDir
 import io.spine.tools.compiler.backend.Pipeline
+import io.spine.tools.compiler.jvm.render.JavaRenderer
 import io.spine.tools.compiler.params.WorkingDirectory
+import io.spine.tools.compiler.render.SourceFileSet
 import io.spine.tools.compiler.settings.SettingsDirectory
 import io.spine.tools.compiler.style.indentOptions
 import io.spine.type.toJson
 import java.nio.file.Files.readString
 import java.nio.file.Path
+import kotlin.io.path.Path
+import kotlin.io.path.writeText
 import org.junit.jupiter.api.BeforeAll
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
@@ -53,7 +59,24 @@ internal class PsiJavaCodeStyleFormatterSpec {
     @Test
     fun `use custom indentation settings`() {
         formattedCode shouldContain INDENT + "public static void main"
-        formattedCode shouldContain INDENT + "private String firstName;"
+        formattedCode shouldContain INDENT + "public String greet()"
+    }
+
+    @Test
+    fun `keep the lines not changed by renderers`() {
+        formattedCode shouldContain "\n  private String firstName;"
+    }
+
+    @Test
+    fun `reformat the whole files created by renderers`() {
+        val generated = readString(outputDir.resolve(GENERATED_FILE))
+
+        generated shouldContain INDENT + "private String name;"
+    }
+
+    @Test
+    fun `skip the files not changed by renderers`() {
+        readString(outputDir.resolve(UNTOUCHED_FILE)) shouldBe UNTOUCHED_CODE
     }
 
     companion object {
@@ -70,6 +93,16 @@ internal class PsiJavaCodeStyleFormatterSpec {
          */
         private const val fileName = "Client.java"
 
+        private const val GENERATED_FILE = "Generated.java"
+
+        private const val UNTOUCHED_FILE = "Untouched.java"
+
+        private val UNTOUCHED_CODE = """
+            public class Untouched {
+              private int count;
+            }
+            """.ti()
+
         private lateinit var outputDir: Path
         private lateinit var formattedCode: String
 
@@ -88,10 +121,12 @@ internal class PsiJavaCodeStyleFormatterSpec {
                 withSettingsDir(settingsDir.path)
             }
             copyResource(fileName, inputDir)
+            inputDir.resolve(UNTOUCHED_FILE).writeText(UNTOUCHED_CODE)
 
             Pipeline(
                 params = params,
                 plugin = RenderingTestbed(
+                    AddGreetingAndGeneratedFile(),
                     PsiJavaCodeStyleFormatter()
                 )
             )()
@@ -114,3 +149,26 @@ internal class PsiJavaCodeStyleFormatterSpec {
         }
     }
 }
+
+/**
+ * Adds a method to the `Client` class and creates a new file.
+ *
+ * The line with the `main` method is replaced, so that it is changed as well.
+ */
+private class AddGreetingAndGeneratedFile : JavaRenderer() {
+
+    override fun render(sources: SourceFileSet) {
+        val client = sources.file(Path("Client.java"))
+        val code = client.code().replace(
+            "public static void main",
+            "public String greet() { return \"Hi\"; }\npublic static void main"
+        )
+        client.overwrite(code)
+        sources.createFile(Path("Generated.java"), """
+            public class Generated {
+            private String name;
+            }
+            """.ti()
+        )
+    }
+}
@@ -37,10 +37,25 @@ public object ParametersFileParam : Parameter(
     shortName = "-P",
     help = """
         The path to the file with the serialized instance of `PipelineParameters` to
-        be passed to the pipeline. The file must be in `pb.json` format.
+        be passed to the pipeline. The file must be in the binary Protobuf format or
+        in `pb.json` format. The format is recognized by the file extension.
+        The parameter may be repeated to run several pipelines in one process.
     """.trimIndent()
 )
 
+/**
+ * The command-line parameter that turns on concurrent execution of the pipelines
+ * specified by several [parameter files][ParametersFileParam].
+ */
+public object ConcurrentPipelinesParam : Parameter(
+    name = "--concurrent",
+    shortName = "-C",
+    help = """
+        Run the pipelines for several `--params` files concurrently.
+        The pipelines must not depend on each other.
+    """
+)
+
 /**
  * The command-line parameter that turns the `INFO` logging level on.
  */
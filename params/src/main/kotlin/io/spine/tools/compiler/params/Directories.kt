@@ -54,4 +54,16 @@ public object Directories {
      * [code generation requests files][CodeGeneratorRequestFile] are stored.
      */
     public const val REQUESTS_SUBDIR: String = "requests"
+
+    /**
+     * The name of the subdirectory under [COMPILER_WORKING_DIR] where
+     * the state of the previous runs is stored for incremental code generation.
+     */
+    public const val INCREMENTAL_SUBDIR: String = "incremental"
+
+    /**
+     * The name of the subdirectory under [COMPILER_WORKING_DIR] where
+     * renderers keep the data reused by the following runs.
+     */
+    public const val CACHE_SUBDIR: String = "cache"
 }
@@ -42,23 +42,41 @@ public class ParametersDirectory(
     /**
      * Creates the file storing the parameters for the pipeline for the given source set.
      *
+     * The parameters are written in the binary Protobuf format, which is the fastest
+     * to write and to parse back. Pass [Format.ProtoJson] as the [format] to obtain
+     * a human-readable copy of the parameters, e.g., for debugging.
+     *
+     * @param sourceSet The source set for which the parameters are written.
+     * @param parameters The parameters to write.
+     * @param format The format of the file, either [Format.ProtoBinary] or [Format.ProtoJson].
      * @return the path to the created file.
+     * @throws IllegalArgumentException if the given format is not supported.
      */
-    public fun write(sourceSet: SourceSetName, parameters: PipelineParameters): File {
-        val content = parameters.toJson()
-        val file = file(sourceSet)
+    @JvmOverloads
+    public fun write(
+        sourceSet: SourceSetName,
+        parameters: PipelineParameters,
+        format: Format<*> = DEFAULT_FORMAT
+    ): File {
+        require(format == Format.ProtoBinary || format == Format.ProtoJson) {
+            "Unsupported format of the parameters file: `$format`."
+        }
+        val file = file(sourceSet, format)
         ensureExistingDirectory(path)
-        file.writeText(content)
+        if (format == Format.ProtoJson) {
+            file.writeText(parameters.toJson())
+        } else {
+            file.writeBytes(parameters.toByteArray())
+        }
         return file
     }
 
     /**
      * Obtains the file for passing parameters for compilation of the specified source set.
+     *
+     * The file has the extension of the [binary Protobuf][Format.ProtoBinary] format.
      */
-    public fun file(sourceSet: SourceSetName): File {
-        val fileName = "${sourceSet.value}.${DEFAULT_FORMAT.extensions.first()}"
-        return path.resolve(fileName).toFile()
-    }
+    public fun file(sourceSet: SourceSetName): File = file(sourceSet, DEFAULT_FORMAT)
 
     /**
      * Obtains the file for passing parameters for compilation of
@@ -70,6 +88,6 @@ public class ParametersDirectory(
     }
 
     private companion object {
-        val DEFAULT_FORMAT = Format.ProtoJson
+        val DEFAULT_FORMAT = Format.ProtoBinary
     }
 }
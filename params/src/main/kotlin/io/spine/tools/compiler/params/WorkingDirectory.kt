@@ -26,6 +26,8 @@
 
 package io.spine.tools.compiler.params
 
+import io.spine.tools.compiler.params.Directories.CACHE_SUBDIR
+import io.spine.tools.compiler.params.Directories.INCREMENTAL_SUBDIR
 import io.spine.tools.compiler.params.Directories.PARAMETERS_SUBDIR
 import io.spine.tools.compiler.params.Directories.REQUESTS_SUBDIR
 import io.spine.tools.compiler.params.Directories.SETTINGS_SUBDIR
@@ -68,4 +70,21 @@ public class WorkingDirectory(
         val dir = path.resolve(REQUESTS_SUBDIR)
         RequestDirectory(dir)
     }
+
+    /**
+     * The directory managing files with the state of incremental code generation.
+     */
+    public val incrementalDirectory: IncrementalDirectory by lazy {
+        val dir = path.resolve(INCREMENTAL_SUBDIR)
+        IncrementalDirectory(dir)
+    }
+
+    /**
+     * The directory in which renderers keep the data reused by the following runs.
+     *
+     * @see PipelineParameters.getCache
+     */
+    public val cacheDirectory: Path by lazy {
+        path.resolve(CACHE_SUBDIR)
+    }
 }
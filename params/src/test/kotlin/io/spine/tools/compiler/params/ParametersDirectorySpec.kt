@@ -35,6 +35,7 @@ import io.spine.type.toJson
 import java.nio.file.Path
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 import org.junit.jupiter.api.io.TempDir
 
 @DisplayName("`ParametersDirectory` should")
@@ -49,16 +50,16 @@ internal class ParametersDirectorySpec {
     fun `compose the file name from the source set and default format`(@TempDir dir: Path) {
         val file = ParametersDirectory(dir).file(SourceSetName("main"))
 
-        file.name shouldBe "main.pb.json"
+        file.name shouldBe "main.${Format.ProtoBinary.extension}"
         file.parentFile shouldBe dir.toFile()
     }
 
     @Test
-    fun `use 'ProtoJson' as the default format`(@TempDir dir: Path) {
+    fun `use 'ProtoBinary' as the default format`(@TempDir dir: Path) {
         val directory = ParametersDirectory(dir)
         val sourceSet = SourceSetName("main")
 
-        directory.file(sourceSet) shouldBe directory.file(sourceSet, Format.ProtoJson)
+        directory.file(sourceSet) shouldBe directory.file(sourceSet, Format.ProtoBinary)
     }
 
     @Test
@@ -69,20 +70,41 @@ internal class ParametersDirectorySpec {
     }
 
     @Test
-    fun `write the parameters to a file and return it`(@TempDir dir: Path) {
+    fun `write the parameters to a binary file and return it`(@TempDir dir: Path) {
         val directory = ParametersDirectory(dir)
         val sourceSet = SourceSetName("main")
-        val parameters = pipelineParameters {
-            compiledProto.add(dir.resolve("compiled.proto").toAbsoluteFile())
-            settings = dir.resolve("settings").toAbsoluteDirectory()
-            request = dir.resolve("request.bin").toAbsoluteFile()
-            targetRoot.add(dir.resolve("generated").toAbsoluteDirectory())
-        }
+        val parameters = parameters(dir)
 
         val written = directory.write(sourceSet, parameters)
 
         written shouldBe directory.file(sourceSet)
         written.exists() shouldBe true
+        PipelineParameters.parseFrom(written.readBytes()) shouldBe parameters
+    }
+
+    @Test
+    fun `write the parameters in JSON when requested`(@TempDir dir: Path) {
+        val directory = ParametersDirectory(dir)
+        val sourceSet = SourceSetName("main")
+        val parameters = parameters(dir)
+
+        val written = directory.write(sourceSet, parameters, Format.ProtoJson)
+
+        written shouldBe directory.file(sourceSet, Format.ProtoJson)
         written.readText() shouldBe parameters.toJson()
     }
+
+    @Test
+    fun `reject unsupported formats`(@TempDir dir: Path) {
+        assertThrows<IllegalArgumentException> {
+            ParametersDirectory(dir).write(SourceSetName("main"), parameters(dir), Format.Yaml)
+        }
+    }
+
+    private fun parameters(dir: Path) = pipelineParameters {
+        compiledProto.add(dir.resolve("compiled.proto").toAbsoluteFile())
+        settings = dir.resolve("settings").toAbsoluteDirectory()
+        request = dir.resolve("request.bin").toAbsoluteFile()
+        targetRoot.add(dir.resolve("generated").toAbsoluteDirectory())
+    }
 }
@@ -38,6 +38,10 @@ import io.spine.tools.code.proto.CodeGeneratorRequestWriter
  *
  * The name of the file is [Base64][java.util.Base64] encoded.
  *
+ * The request is stored in the binary Protobuf format. A JSON copy of the request
+ * is written next to the binary file only if [requested][jsonDumpRequested]
+ * for debugging purposes.
+ *
  * The function returns empty [CodeGeneratorRequest] written to [System.out]
  * according to the `protoc` plugin
  * [protocol](https://protobuf.dev/reference/cpp/api-docs/google.protobuf.compiler.plugin.pb/).
@@ -47,7 +51,34 @@ import io.spine.tools.code.proto.CodeGeneratorRequestWriter
 public fun main() {
     val writer = CodeGeneratorRequestWriter(System.`in`)
     writer.writeBinary()
-    writer.writeJson()
+    if (jsonDumpRequested()) {
+        writer.writeJson()
+    }
     val emptyResponse = CodeGeneratorResponse.getDefaultInstance()
     emptyResponse.writeTo(System.out)
 }
+
+/**
+ * The name of the environment variable which turns on writing
+ * the JSON copy of the request.
+ */
+internal const val REQUEST_JSON_ENV = "SPINE_COMPILER_REQUEST_JSON"
+
+/**
+ * The name of the system property which turns on writing the JSON copy of the request.
+ *
+ * The property is an alternative to the [environment variable][REQUEST_JSON_ENV]
+ * convenient for launching the plugin in the same JVM.
+ */
+internal const val REQUEST_JSON_PROPERTY = "spine.compiler.requestJson"
+
+/**
+ * Tells if the JSON copy of the request should be written in addition to the binary file.
+ *
+ * Serializing large requests into JSON is slow and doubles the disk traffic.
+ * Therefore, the JSON copy is written only when either the [REQUEST_JSON_ENV] variable or
+ * the [REQUEST_JSON_PROPERTY] property is set to `true`.
+ */
+internal fun jsonDumpRequested(): Boolean =
+    System.getenv(REQUEST_JSON_ENV).toBoolean()
+            || System.getProperty(REQUEST_JSON_PROPERTY).toBoolean()
@@ -75,10 +75,23 @@ class ProtocPluginSpec {
     }
 
     @Test
-    fun `write request in JSON format`() {
+    fun `not write request in JSON format by default`() {
         createRequestAndLaunchMain()
         val requestInJson = requestFile.toPath().replaceExtension("pb.json")
 
+        requestInJson.exists() shouldBe false
+    }
+
+    @Test
+    fun `write request in JSON format when requested`() {
+        System.setProperty(REQUEST_JSON_PROPERTY, "true")
+        try {
+            createRequestAndLaunchMain()
+        } finally {
+            System.clearProperty(REQUEST_JSON_PROPERTY)
+        }
+        val requestInJson = requestFile.toPath().replaceExtension("pb.json")
+
         requestInJson.exists() shouldBe true
 
         val json = requestInJson.toFile().readText()
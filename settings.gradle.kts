@@ -55,5 +55,6 @@ include(
     "testlib",
     "jvm",
     "gradle-api",
-    "gradle-plugin"
+    "gradle-plugin",
+    "benchmarks"
 )